@@ -0,0 +1,50 @@
+package com.springboot.project.community.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 경로 판별 비용
+ * - routeTable  : PublicRoutes (미리 컴파일한 경로 표)
+ * - startsWith  : 이전 방식 (요청마다 startsWith 비교 나열)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicRoutesBenchmark {
+
+    @Param({"/api/auth/login", "/api/boards/123/comments", "/api/boards/123/likes", "/css/app.css"})
+    public String path;
+
+    @Benchmark
+    public boolean routeTable() {
+        return PublicRoutes.STATIC_RESOURCES.matches(path)
+                || PublicRoutes.AUTH.matches(path)
+                || PublicRoutes.BOARD_READ.matches(path);
+    }
+
+    @Benchmark
+    public boolean startsWith() {
+        return path.startsWith("/css/")
+                || path.startsWith("/js/")
+                || path.startsWith("/images/")
+                || path.equals("/favicon.ico")
+                || path.equals("/api/auth")
+                || path.startsWith("/api/auth/signup")
+                || path.startsWith("/api/auth/login")
+                || path.startsWith("/api/auth/refresh")
+                || path.startsWith("/api/auth/check")
+                || path.startsWith("/api/auth/check-email")
+                || path.startsWith("/api/auth/check-nickname")
+                || path.startsWith("/api/boards");
+    }
+}
@@ -0,0 +1,112 @@
+package com.springboot.project.community.security.jwt;
+
+import com.springboot.project.community.repository.RevokedAccessTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 인증 비용
+ * - filter      : 현재 필터 (검증된 토큰 캐시 적중)
+ * - filterNoCache : 캐시 없이 파싱 1회
+ * - tripleParse : 이전 방식 (validateToken / getUserIdFromToken / getRoles 각각 파서 생성 + 서명 검증)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "m0R4q7Y2Q4sH9p2P0s1tH3bD9vM7qP1kA4vL0nM8qQ0rC5yX3fS9eW==";
+
+    private JwtAuthenticationFilter filter;
+    private JwtAuthenticationFilter filterNoCache;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900_000L, 604_800_000L);
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(emptyRevokedTokens(), 100_000, 0.001);
+        revocationList.init();
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), true, 10_000), revocationList);
+        filterNoCache = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), false, 10_000), revocationList);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = jwtTokenProvider.generateAccessToken(1L, List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        return authenticate(filter);
+    }
+
+    @Benchmark
+    public Object filterNoCache() throws Exception {
+        return authenticate(filterNoCache);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public void tripleParse(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            blackhole.consume(claims);
+        }
+    }
+
+    /**
+     * 폐기 토큰이 없는 저장소 (블룸 필터가 비어 있으므로 요청 중에는 호출되지 않음)
+     */
+    private static RevokedAccessTokenRepository emptyRevokedTokens() {
+        return (RevokedAccessTokenRepository) Proxy.newProxyInstance(
+                RevokedAccessTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedAccessTokenRepository.class},
+                (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == List.class) {
+                        return List.of();
+                    }
+                    if (type == boolean.class) {
+                        return false;
+                    }
+                    if (type == int.class) {
+                        return 0;
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,89 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.CommunityApplication;
+import com.springboot.project.community.dto.board.PostCreateReq;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 수별 게시글 작성 지연 시간 (BOARD + BOARD_STATS + BOARD_IMAGE JDBC 배치 1회)
+ * - application.yml 의 MySQL 에 실제로 쓰고, 측정이 끝나면 만든 게시글/사용자를 지운다
+ *
+ * 실행: ./gradlew jmh (로컬 MySQL 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardCreateBenchmark {
+
+    @Param({"0", "1", "5", "20", "50"})
+    private int imageCount;
+
+    private ConfigurableApplicationContext context;
+    private BoardService boardService;
+    private JdbcTemplate jdbcTemplate;
+    private Long authorId;
+    private PostCreateReq req;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        boardService = context.getBean(BoardService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        authorId = context.getBean(UserRepository.class).save(User.builder()
+                .email(suffix + "@bench.com")
+                .password("password")
+                .nickname("bench-" + suffix)
+                .useYn(false)
+                .build()).getUserId();
+
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            imageUrls.add("https://cdn.example.com/" + UUID.randomUUID() + ".png");
+        }
+        req = PostCreateReq.builder()
+                .title("bench")
+                .contents("contents")
+                .imageUrls(imageUrls)
+                .build();
+    }
+
+    @Benchmark
+    public Long create() {
+        return boardService.create(authorId, req).getPostId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (String table : List.of("BOARD_IMAGE", "BOARD_STATS_SHARD", "BOARD_STATS")) {
+            jdbcTemplate.update("DELETE FROM " + table +
+                    " WHERE post_id IN (SELECT post_id FROM BOARD WHERE user_id = ?)", authorId);
+        }
+        jdbcTemplate.update("DELETE FROM BOARD WHERE user_id = ?", authorId);
+        jdbcTemplate.update("DELETE FROM USERS WHERE user_id = ?", authorId);
+        context.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.springboot.project.community;
 
+import com.springboot.project.community.security.PublicRoutes;
 import com.springboot.project.community.service.auth.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,18 +25,11 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
         String path = request.getRequestURI();
         String method = request.getMethod();
         
-        if (path.equals("/api/auth") ||
-            path.startsWith("/api/auth/signup") ||
-            path.startsWith("/api/auth/login") ||
-            path.startsWith("/api/auth/refresh") ||
-            path.startsWith("/api/auth/check") ||
-            path.startsWith("/api/auth/check-email") ||
-            path.startsWith("/api/auth/check-nickname") ||
-            path.startsWith("/api/auth/test")) {
+        if (PublicRoutes.AUTH.matches(path)) {
             return true;
         }
 
-        if ("GET".equals(method) && path.startsWith("/api/boards")) {
+        if ("GET".equals(method) && PublicRoutes.BOARD_READ.matches(path)) {
             return true;
         }
         
@@ -0,0 +1,14 @@
+package com.springboot.project.community.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 활성화 설정
+ * - 게시글 상세(postDetail) 등 조회 결과 캐시
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+}
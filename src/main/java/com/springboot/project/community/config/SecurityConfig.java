@@ -1,8 +1,10 @@
 package com.springboot.project.community.config;
 
+import com.springboot.project.community.security.PublicRoutes;
 import com.springboot.project.community.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,6 +12,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -33,30 +36,17 @@ public class SecurityConfig {
                 )
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api/auth",
-                                "/api/auth/signup",
-                                "/api/auth/login",
-                                "/api/auth/refresh",
-                                "/api/auth/check",
-                                "/api/auth/check-email",
-                                "/api/auth/check-nickname",
-                                "/",
-                                "/css/**",
-                                "/js/**",
-                                "/images/**",
-                                "/error"
-                        ).permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards/*").permitAll()
-                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/boards/*/comments").permitAll()
+                        .requestMatchers(PublicRoutes.AUTH.patterns()).permitAll()
+                        .requestMatchers(PublicRoutes.STATIC_RESOURCES.patterns()).permitAll()
+                        .requestMatchers(PublicRoutes.PAGES.patterns()).permitAll()
+                        .requestMatchers(HttpMethod.GET, PublicRoutes.BOARD_READ.patterns()).permitAll()
                         .anyRequest().authenticated()
                 )
-                .logout(logout -> logout
-                        .logoutUrl("/api/auth/logout")
-                        .logoutSuccessUrl("/api/auth/check")
-                        .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID", "rememberMe")
+                // 로그아웃은 JwtAuthController 가 처리 (토큰 폐기). LogoutFilter 가 먼저 가로채면 폐기가 실행되지 않는다
+                .logout(AbstractHttpConfigurer::disable)
+                // 토큰이 없거나 폐기/만료된 요청은 401 (기본값은 403)
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
@@ -1,6 +1,7 @@
 package com.springboot.project.community.config;
 
 import com.springboot.project.community.AuthenticationInterceptor;
+import com.springboot.project.community.security.PublicRoutes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -25,24 +26,19 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry){
         registry.addInterceptor(authenticationInterceptor)
                 .addPathPatterns("/api/**") // /api/** 경로에 적용
+                // 인증 관련 (로그인 없이 접근 가능)
+                .excludePathPatterns(PublicRoutes.AUTH.patterns())
                 .excludePathPatterns(
-                        // 인증 관련 (로그인 없이 접근 가능)
-                        "/api/auth/signup",
-                        "/api/auth/login",
-                        "/api/auth/refresh",
-                        "/api/auth/check",
-                        "/api/auth/check-email",
-                        "/api/auth/check-nickname",
                         // 인증이 필요한 API는 JWT 필터가 처리하도록 제외
                         "/api/auth/change-password",
                         "/api/auth/me",
                         "/api/auth/logout",
-                        "/api/auth/withdraw",
+                        "/api/auth/withdraw"
                         // 게시판 조회만 비로그인 허용 (GET만)
                         // POST/PUT/DELETE는 인터셉터가 JWT 토큰을 체크함
-                        // 에러 페이지
-                        "/error"
-                );
+                )
+                // 에러 페이지
+                .excludePathPatterns(PublicRoutes.PAGES.patterns());
     }
 
     @Override
@@ -7,6 +7,8 @@ import com.springboot.project.community.dto.auth.UserUpdateReq;
 import com.springboot.project.community.entity.User;
 import com.springboot.project.community.repository.UserRepository;
 import com.springboot.project.community.service.auth.UserService;
+import com.springboot.project.community.service.image.ProfileImageService;
+import com.springboot.project.community.util.ImageUrlUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,7 @@ public class AuthController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ProfileImageService profileImageService;
 
     /**
      *  회원가입 기능
@@ -46,16 +49,16 @@ public class AuthController {
         String encodedPassword = passwordEncoder.encode(req.getPassword());
 
         // User 엔티티 생성
-        // 프로필 이미지 처리 (빈 문자열이면 null로 저장)
-        String image = (req.getImage() != null && !req.getImage().isBlank()) 
-                ? req.getImage() 
+        // 프로필 이미지 처리 (이미지 저장소에 저장 후 키만 보관, 빈 문자열이면 null)
+        String imageKey = (req.getImage() != null && !req.getImage().isBlank())
+                ? profileImageService.store(req.getImage())
                 : null;
         
         User user = User.builder()
                 .email(req.getEmail())
                 .password(encodedPassword)
                 .nickname(req.getNickname())
-                .image(image)
+                .imageKey(imageKey)
                 .useYn(false)
                 .build();
 
@@ -78,7 +81,7 @@ public class AuthController {
                 .userId(updatedUser.getUserId())
                 .email(updatedUser.getEmail())
                 .nickname(updatedUser.getNickname())
-                .image(updatedUser.getImage())
+                .image(ImageUrlUtil.toUrl(updatedUser.getImageKey()))
                 .build();
         
         return ResponseEntity.ok(userRes);
@@ -8,6 +8,7 @@ import com.springboot.project.community.security.jwt.JwtTokenProvider;
 import com.springboot.project.community.security.jwt.TokenService;
 import com.springboot.project.community.service.auth.UserService;
 import com.springboot.project.community.util.CookieUtil;
+import com.springboot.project.community.util.ImageUrlUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -90,7 +91,7 @@ public class JwtAuthController {
         userMap.put("id", user.getUserId());
         userMap.put("email", user.getEmail());
         userMap.put("nickname", user.getNickname());
-        userMap.put("image", user.getImage()); // 프로필 이미지 추가
+        userMap.put("image", ImageUrlUtil.toUrl(user.getImageKey())); // 프로필 이미지 URL
         
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -134,9 +135,13 @@ public class JwtAuthController {
     @PostMapping("/logout")
     public ResponseEntity<Map<String, Object>> logout(
             @AuthenticationPrincipal Long userId,
+            HttpServletRequest request,
             HttpServletResponse response) {
 
-        tokenService.logout(userId, response);
+        tokenService.logout(userId,
+                extractAccessToken(request),
+                CookieUtil.getCookieValue(request, "refreshToken"),
+                response);
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -159,7 +164,7 @@ public class JwtAuthController {
         userMap.put("id", user.getUserId());
         userMap.put("email", user.getEmail());
         userMap.put("nickname", user.getNickname());
-        userMap.put("image", user.getImage()); // 프로필 이미지 추가
+        userMap.put("image", ImageUrlUtil.toUrl(user.getImageKey())); // 프로필 이미지 URL
         
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
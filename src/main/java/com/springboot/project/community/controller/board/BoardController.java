@@ -55,12 +55,21 @@ public class BoardController {
     }
     /**
      * 게시글 목록 조회
+     * - page/size : 기존 OFFSET 페이지네이션 (전체 개수 포함)
+     * - cursor/size : 커서 기반 조회 (cursor= 로 첫 페이지, 이후 응답의 nextCursor 전달)
+     * - 로그인 상태면 게시글별 isLiked 포함 (비로그인 false)
      */
     @GetMapping
-    public ResponseEntity<Page<BoardListRes>> getBoardList(
+    public ResponseEntity<?> getBoardList(
+            @AuthenticationPrincipal Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Page<BoardListRes> boardList = boardService.getBoardList(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            BoardSliceRes boardSlice = boardService.getBoardSlice(cursor, size, userId);
+            return ResponseEntity.ok(boardSlice);
+        }
+        Page<BoardListRes> boardList = boardService.getBoardList(page, size, userId);
         return ResponseEntity.ok(boardList);
     }
 
@@ -68,8 +77,10 @@ public class BoardController {
      * 게시글 상세 조회
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostRes> findById(@PathVariable Long postId) {
-        PostRes postRes = boardService.findById(postId);
+    public ResponseEntity<PostRes> findById(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long postId) {
+        PostRes postRes = boardService.findById(postId, userId);
         return ResponseEntity.ok(postRes);
     }
 
@@ -3,10 +3,10 @@ package com.springboot.project.community.controller.comment;
 import com.springboot.project.community.dto.comment.CommentCreateReq;
 import com.springboot.project.community.dto.comment.CommentRes;
 import com.springboot.project.community.dto.comment.CommentDeleteRes;
+import com.springboot.project.community.dto.comment.CommentSliceRes;
 import com.springboot.project.community.dto.comment.CommentUpdateReq;
 import com.springboot.project.community.service.comment.CommentService;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -47,9 +47,16 @@ public class CommentController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 댓글 목록 조회 (커서 기반)
+     * - after : 이전 응답의 nextCursor (없으면 첫 페이지)
+     */
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<List<CommentRes>> getComments(@PathVariable Long postId) {
-        List<CommentRes> comments = commentService.findByPost(postId);
+    public ResponseEntity<CommentSliceRes> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentSliceRes comments = commentService.findByPost(postId, after, size);
         return ResponseEntity.ok(comments);
     }
 }
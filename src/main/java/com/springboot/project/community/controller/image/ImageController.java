@@ -0,0 +1,43 @@
+package com.springboot.project.community.controller.image;
+
+import com.springboot.project.community.service.image.ProfileImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  이미지 조회 컨트롤러
+ * - 콘텐츠 해시가 곧 URL 이므로 내용이 바뀌지 않는다 → 강한 ETag + 1년 immutable 캐시
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ProfileImageService profileImageService;
+
+    @GetMapping("/images/{hash}")
+    public ResponseEntity<Resource> getImage(@PathVariable String hash, WebRequest request) {
+        Resource image = profileImageService.find(hash).orElse(null);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String eTag = "\"" + hash + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(profileImageService.contentTypeOf(image))
+                .body(image);
+    }
+}
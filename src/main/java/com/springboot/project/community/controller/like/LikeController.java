@@ -1,24 +1,29 @@
 package com.springboot.project.community.controller.like;
 
 import com.springboot.project.community.dto.like.LikeToggleRes;
-import com.springboot.project.community.service.like.LikeService;
+import com.springboot.project.community.service.like.LikeRequestCoalescer;
+import com.springboot.project.community.service.like.LikeRequestCoalescer.Op;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  *  좋아요 관련 컨트롤러
  * - 좋아요 토글 (누르면 좋아요 / 다시 누르면 취소)
+ * - 좋아요 설정(PUT) / 취소(DELETE) : 여러 번 호출해도 결과가 같음 (재시도에 안전)
+ * - 짧은 시간 내 같은 게시글 요청은 LikeRequestCoalescer가 합쳐서 한 번만 반영
  */
 @RestController
 @RequestMapping("/api/boards")
 @RequiredArgsConstructor
 public class LikeController {
 
-    private final LikeService likeService;
+    private final LikeRequestCoalescer likeRequestCoalescer;
 
     /**
      * 좋아요 토글 API
@@ -27,6 +32,26 @@ public class LikeController {
     public LikeToggleRes toggleLike(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long postId) {
-        return likeService.toggle(userId, postId);
+        return likeRequestCoalescer.submit(userId, postId, Op.TOGGLE);
+    }
+
+    /**
+     * 좋아요 설정 API (멱등)
+     */
+    @PutMapping("/{postId}/likes")
+    public LikeToggleRes like(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long postId) {
+        return likeRequestCoalescer.submit(userId, postId, Op.LIKE);
+    }
+
+    /**
+     * 좋아요 취소 API (멱등)
+     */
+    @DeleteMapping("/{postId}/likes")
+    public LikeToggleRes unlike(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long postId) {
+        return likeRequestCoalescer.submit(userId, postId, Op.UNLIKE);
     }
 }
@@ -0,0 +1,11 @@
+package com.springboot.project.community.dto.board;
+
+/**
+ * 게시글 카운터 조회 결과 (BOARD_STATS + 아직 합산되지 않은 BOARD_STATS_SHARD)
+ * - BoardStatsRepository.findCounts 네이티브 쿼리 프로젝션
+ */
+public interface BoardCounts {
+    Long getLikeCount();
+    Long getViewCount();
+    Long getCommentCount();
+}
@@ -0,0 +1,45 @@
+package com.springboot.project.community.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 게시글 목록 커서 (createdAt,postId)
+ * - 키셋 페이지네이션에서 마지막으로 받은 게시글의 위치
+ * - 쿼리 파라미터 형식: ?cursor=2025-01-01T10:00:00,123
+ */
+@Getter
+@AllArgsConstructor
+public class BoardCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    public static BoardCursor of(BoardListRes board) {
+        return new BoardCursor(board.getCreatedAt(), board.getId());
+    }
+
+    /**
+     * 커서 문자열 파싱 (형식이 잘못되면 400 응답)
+     */
+    public static BoardCursor decode(String cursor) {
+        String[] parts = cursor.split(DELIMITER);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+        try {
+            return new BoardCursor(LocalDateTime.parse(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + postId;
+    }
+}
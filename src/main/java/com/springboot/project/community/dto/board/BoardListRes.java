@@ -2,6 +2,7 @@ package com.springboot.project.community.dto.board;
 
 import com.springboot.project.community.entity.Board;
 import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.util.ImageUrlUtil;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,19 +12,27 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardListRes {
     private Long id;
     private String title;
     private String author;
-    private String authorImage; // 작성자 프로필 이미지
+    private String authorImage; // 작성자 프로필 이미지 URL (/images/{hash})
     private String contents;
     private Long likes;
     private Long comments;
     private Long views;
     private LocalDateTime createdAt;
+    private Boolean isLiked; // 현재 사용자가 좋아요를 눌렀는지 여부 (비로그인 false)
+
+    /**
+     * 좋아요 여부를 채운 복사본 (목록 캐시의 행은 공유되므로 직접 수정하지 않음)
+     */
+    public BoardListRes withLiked(boolean liked) {
+        return toBuilder().isLiked(liked).build();
+    }
 
     // Board와 BoardStats를 받아서 DTO 생성
     public static BoardListRes from(Board board, BoardStats stats) {
@@ -32,7 +41,7 @@ public class BoardListRes {
                 .title(board.getTitle())
                 .contents(board.getContents())
                 .author(board.getAuthor().getNickname()) // User의 필드명에 맞게 수정
-                .authorImage(board.getAuthor().getImage()) // 작성자 프로필 이미지
+                .authorImage(ImageUrlUtil.toUrl(board.getAuthor().getImageKey())) // 작성자 프로필 이미지
                 .createdAt(board.getCreatedAt())
                 .likes(stats != null ? stats.getLikeCount() : 0L)
                 .comments(stats != null ? stats.getCommentCount() : 0L)
@@ -0,0 +1,40 @@
+package com.springboot.project.community.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 응답 DTO (커서 기반)
+ * - 전체 개수 대신 다음 페이지 존재 여부와 다음 커서만 반환
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSliceRes {
+    private List<BoardListRes> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+
+    public static BoardSliceRes of(Slice<BoardListRes> boards, int size) {
+        List<BoardListRes> content = boards.getContent();
+        String nextCursor = boards.hasNext()
+                ? BoardCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+
+        return BoardSliceRes.builder()
+                .content(content)
+                .size(size)
+                .hasNext(boards.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.springboot.project.community.dto.board;
+
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.util.ImageUrlUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ *  게시글 상세 캐시 값
+ * - 제목/내용/이미지/작성자/댓글처럼 수정·삭제 시에만 바뀌는 부분만 담는다
+ * - 조회수/좋아요 수, 좋아요 여부 등 계속 바뀌는 값은 제외 (응답 조립 시 별도 조회)
+ * - 캐시에 공유되므로 꺼내 쓰는 쪽에서 수정하지 않는다
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostDetail {
+    private final Long postId;
+    private final String title;
+    private final String contents;
+    private final Long userId;
+    private final String author;
+    private final String authorImage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<String> imageUrls;
+    private final List<CommentRes> comments;          // 첫 댓글 페이지
+    private final String commentNextCursor;             // 다음 댓글 커서 (없으면 null)
+
+    public static PostDetail of(Board board, List<String> imageUrls, List<CommentRes> comments, String commentNextCursor) {
+        User author = board.getAuthor();
+        return PostDetail.builder()
+                .postId(board.getPostId())
+                .title(board.getTitle())
+                .contents(board.getContents())
+                .userId(author.getUserId())
+                .author(author.getNickname())
+                .authorImage(ImageUrlUtil.toUrl(author.getImageKey()))
+                .createdAt(board.getCreatedAt())
+                .updatedAt(board.getUpdatedAt())
+                .imageUrls(List.copyOf(imageUrls))
+                .comments(List.copyOf(comments))
+                .commentNextCursor(commentNextCursor)
+                .build();
+    }
+}
@@ -47,34 +47,27 @@ public class PostRes {
 
     /** 새 이미지 URL 리스트 (기존 이미지 전부 교체됨) */
     private List<String> imageUrls;
-    private List<CommentRes> comments;
+    private List<CommentRes> comments;       // 첫 댓글 페이지
+    private String commentNextCursor;          // 나머지 댓글: GET /api/boards/{postId}/comments?after={commentNextCursor}
 
-    public static PostRes of(Board board, BoardStats stats, List<String> imageUrls, List<CommentRes> comments, Boolean isLiked) {
-        // Board 엔티티의 필드들을 트랜잭션 내에서 미리 가져옴 (LAZY 로딩 방지)
-        Long postId = board.getPostId();
-        String title = board.getTitle();
-        String contents = board.getContents();
-        String author = board.getAuthor().getNickname();
-        Long userId = board.getAuthor().getUserId();
-        String authorImage = board.getAuthor().getImage();
-        LocalDateTime createdAt = board.getCreatedAt();
-        LocalDateTime updatedAt = board.getUpdatedAt();
-        
+    public static PostRes of(PostDetail detail, BoardCounts counts, Boolean isLiked) {
+        List<CommentRes> comments = detail.getComments();
         return PostRes.builder()
-                .postId(postId)
-                .title(title)
-                .contents(contents)
-                .author(author)
-                .userId(userId)
-                .authorImage(authorImage)
-                .createdAt(createdAt)
-                .updatedAt(updatedAt)
-                .likeCount(stats != null ? stats.getLikeCount() : 0L)
-                .commentCount(comments != null ? (long) comments.size() : 0L) // 실제 댓글 수 사용
-                .viewCount(stats != null ? stats.getViewCount() : 0L)
+                .postId(detail.getPostId())
+                .title(detail.getTitle())
+                .contents(detail.getContents())
+                .author(detail.getAuthor())
+                .userId(detail.getUserId())
+                .authorImage(detail.getAuthorImage())
+                .createdAt(detail.getCreatedAt())
+                .updatedAt(detail.getUpdatedAt())
+                .likeCount(counts != null ? counts.getLikeCount() : 0L)
+                .commentCount(counts != null ? counts.getCommentCount() : 0L)
+                .viewCount(counts != null ? counts.getViewCount() : 0L)
                 .isLiked(isLiked != null ? isLiked : false) // 로그인하지 않은 경우 false
-                .imageUrls(imageUrls)
+                .imageUrls(detail.getImageUrls())
                 .comments(comments)
+                .commentNextCursor(detail.getCommentNextCursor())
                 .build();
     }
 }
@@ -14,6 +14,7 @@ import java.util.List;
 
 /**
  * 게시글 수정 요청 DTO
+ * - 제목/내용/이미지 중 null 인 항목은 기존 값 유지 (BoardService.update)
  */
 @Getter
 @Setter
@@ -30,7 +31,7 @@ public class PostUpdateReq {
     @NotBlank(message = "내용은 반드시 입력해야 합니다.")
     private String contents;
 
-    /** 새 이미지 URL 리스트 (기존 이미지 전부 교체됨) */
+    /** 새 이미지 URL 리스트 (null 이면 기존 이미지 유지, 있으면 이 순서로 맞춤 - 바뀐 이미지만 추가/삭제) */
     private List<String> imageUrls;
     private String author;
     private LocalDateTime createdAt;
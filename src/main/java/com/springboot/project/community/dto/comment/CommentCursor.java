@@ -0,0 +1,46 @@
+package com.springboot.project.community.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 댓글 목록 커서 (createdAt,commentId)
+ * - 키셋 페이지네이션에서 마지막으로 받은 댓글의 위치
+ * - 위치 값을 커서에 직접 담으므로 커서 댓글이 그 사이 삭제되어도 이어서 조회된다
+ * - 쿼리 파라미터 형식: ?after=2025-01-01T10:00:00,123
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdAt;
+    private final Long commentId;
+
+    public static CommentCursor of(CommentRes comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getCommentId());
+    }
+
+    /**
+     * 커서 문자열 파싱 (형식이 잘못되면 400 응답)
+     */
+    public static CommentCursor decode(String cursor) {
+        String[] parts = cursor.split(DELIMITER);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+        try {
+            return new CommentCursor(LocalDateTime.parse(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + commentId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.project.community.dto.comment;
 
 import com.springboot.project.community.entity.Comment;
+import com.springboot.project.community.util.ImageUrlUtil;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,7 @@ public class CommentRes {
     private Long postId;
     private Long userId;
     private String author;           // 닉네임
-    private String authorImage;
+    private String authorImage;      // 프로필 이미지 URL (/images/{hash})
     private String content;
     private LocalDateTime createdAt;
 
@@ -27,7 +28,7 @@ public class CommentRes {
                 .postId(c.getBoard().getPostId())
                 .userId(c.getAuthor().getUserId())
                 .author(c.getAuthor().getNickname())
-                .authorImage(c.getAuthor().getImage())
+                .authorImage(ImageUrlUtil.toUrl(c.getAuthor().getImageKey()))
                 .content(c.getContents())
                 .createdAt(c.getCreatedAt())
                 .build();
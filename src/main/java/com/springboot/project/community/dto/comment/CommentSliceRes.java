@@ -0,0 +1,41 @@
+package com.springboot.project.community.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 댓글 목록 응답 DTO (커서 기반)
+ * - 다음 페이지는 ?after={nextCursor} 로 조회
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentSliceRes {
+    private List<CommentRes> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 댓글의 (createdAt,commentId), 마지막 페이지면 null
+
+    /**
+     * size + 1 건 조회 결과로 응답 생성
+     */
+    public static CommentSliceRes of(List<CommentRes> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<CommentRes> content = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        String nextCursor = hasNext ? CommentCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return CommentSliceRes.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -25,6 +25,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.AccessLevel;
 
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -35,14 +36,17 @@ import java.util.List;
 
 /**
  * 게시판 엔티티 (BOARD)
+ * - 삭제 시 deleted_at 만 기록하고(tombstone) 조회에서 제외, 실제 행은 BoardPurger 가 정리
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 @Table(
         name = "BOARD",
         indexes = {
                 @Index(name = "idx_user", columnList = "user_id"),
-                @Index(name = "idx_created", columnList = "created_at")
+                @Index(name = "idx_created", columnList = "created_at"),
+                @Index(name = "idx_board_deleted", columnList = "deleted_at")
         }
 )
 @Getter
@@ -72,6 +76,10 @@ public class Board extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String contents;
 
+    // 삭제 시각 (null 이면 정상 게시글)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // createdAt, updatedAt 삭제
 
     // @CreatedDate
@@ -97,7 +105,7 @@ public class Board extends BaseTimeEntity {
         image.setBoard(this);
     }
 
-    // 연관관계 편의 메서드 - 전체 교체
+    // 연관관계 편의 메서드 - 전체 교체 (게시글 수정은 BoardService 에서 변경분만 반영)
     public void setImages(List<BoardImage> newImages) {
         images.clear();
         if (newImages != null) {
@@ -18,7 +18,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "BOARD_LIKE")
+@Table(
+        name = "BOARD_LIKE",
+        indexes = {
+                // 게시글별 좋아요 수 집계 (통계 재계산)
+                @Index(name = "idx_like_post_deleted", columnList = "post_id, is_deleted")
+        }
+)
 @Getter
 @Setter
 @Builder
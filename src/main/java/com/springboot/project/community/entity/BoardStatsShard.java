@@ -0,0 +1,36 @@
+package com.springboot.project.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 통계 샤드 (BOARD_STATS_SHARD)
+ * - 좋아요/댓글 수 변경분을 게시글당 여러 행(shard_no)에 나눠 쌓는다
+ *   (인기 게시글의 BOARD_STATS 한 행에 UPDATE가 몰려 행 잠금에서 직렬화되는 것을 방지)
+ * - BoardStatsCompactor가 주기적으로 BOARD_STATS에 합산하고 해당 행을 삭제
+ * - 쓰기는 BoardStatsShardRepository의 upsert로만 하고 엔티티로 저장하지 않는다
+ */
+@Entity
+@Table(name = "BOARD_STATS_SHARD")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardStatsShard {
+
+    /** 복합키 (post_id + shard_no) */
+    @EmbeddedId
+    private BoardStatsShardId shardId;
+
+    @Column(name = "like_delta", nullable = false)
+    private Long likeDelta = 0L;
+
+    @Column(name = "view_delta", nullable = false)
+    private Long viewDelta = 0L;
+
+    @Column(name = "comment_delta", nullable = false)
+    private Long commentDelta = 0L;
+}
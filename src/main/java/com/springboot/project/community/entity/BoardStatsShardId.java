@@ -0,0 +1,28 @@
+package com.springboot.project.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * BOARD_STATS_SHARD의 복합키 (post_id + shard_no)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BoardStatsShardId implements Serializable {
+
+    @Column(name = "post_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    private Long postId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+}
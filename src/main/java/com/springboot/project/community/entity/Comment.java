@@ -24,20 +24,24 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  *  댓글 엔티티 (COMMENT)
+ *  - 삭제 시 deleted_at 만 기록하고(tombstone) 조회에서 제외, 실제 행은 BoardPurger 가 정리
  */
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 @Table(
         name = "COMMENT",
         indexes = {
                 @Index(name = "idx_comment_user", columnList = "user_id"),
-                @Index(name = "idx_comment_board", columnList = "post_id")
+                @Index(name = "idx_comment_board_created", columnList = "post_id, created_at, comment_id"),
+                @Index(name = "idx_comment_deleted", columnList = "deleted_at")
         }
 )
 @Getter
@@ -71,6 +75,10 @@ public class Comment extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition="TEXT")
     private String contents;
 
+    // 삭제 시각 (null 이면 정상 댓글)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
 //     @CreatedDate
 //     @Column(name = "created_at", updatable = false, columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
 //     private LocalDateTime createdAt;
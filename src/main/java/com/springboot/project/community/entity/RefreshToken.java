@@ -10,14 +10,18 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 /**
- * Refresh Token 엔티티
+ * Refresh Token 엔티티 (토큰 계열(family)당 1행)
  *
- * [향후 JWT 전환 시 사용]
- * - Refresh Token을 DB에 저장하여 관리
- * - 보안을 위해 토큰 재사용 방지
+ * - 로그인 1회 = family 1개. 재발급(rotation) 때마다 같은 행의 token_hash 를 새 토큰으로 교체
+ * - 원문 토큰 대신 SHA-256 해시만 저장
+ * - 이미 교체된 토큰이 다시 오면 재사용으로 보고 family 전체를 폐기(revoked)
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_expires", columnList = "expires_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -25,18 +29,21 @@ import java.time.LocalDateTime;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(length = 36)
+    private String familyId;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private Long userId;
 
-    @Column(nullable = false, length = 500)
-    private String token;
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
 
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
+    @Column(nullable = false)
+    private boolean revoked;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -51,12 +58,4 @@ public class RefreshToken {
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
     }
-
-    /**
-     * 토큰 갱신
-     */
-    public void updateToken(String newToken, LocalDateTime newExpiresAt) {
-        this.token = newToken;
-        this.expiresAt = newExpiresAt;
-    }
 }
@@ -0,0 +1,38 @@
+package com.springboot.project.community.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 Access Token (로그아웃)
+ * - Access Token 의 jti 만 저장하고, 토큰 만료(exp) 이후에는 정리 대상
+ * - 인증 필터는 메모리의 블룸 필터를 먼저 보고, 포함 가능성이 있을 때만 이 테이블을 조회
+ */
+@Entity
+@Table(name = "revoked_access_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_expires", columnList = "expires_at"),
+                @Index(name = "idx_revoked_created", columnList = "created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RevokedAccessToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
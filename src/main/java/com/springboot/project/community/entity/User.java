@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.AccessLevel;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +18,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  *  사용자 엔티티 (USERS)
  */
 @Entity
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "USERS")
 @Getter
@@ -40,10 +42,11 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, unique = true, length = 50)
     private String nickname;
 
-    // Base64 이미지 문자열을 저장하기 때문에 TEXT 타입으로 변경
-    @Lob
-    @Column(columnDefinition = "LONGTEXT")
-    private String image;
+    // 레거시 Base64 이미지(image LONGTEXT)는 UserProfileImage로 분리 → User 조회 시 읽지 않음
+
+    // 프로필 이미지 키 (콘텐츠 해시, /images/{imageKey} 로 제공)
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
 
     @Column(name = "use_yn", columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean useYn;
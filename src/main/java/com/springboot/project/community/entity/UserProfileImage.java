@@ -0,0 +1,34 @@
+package com.springboot.project.community.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ *  사용자 레거시 프로필 이미지 (USERS.image)
+ * - USERS 테이블의 LONGTEXT Base64 컬럼만 별도 엔티티로 분리
+ *   → User 조회(권한/작성자 확인 등) 시 LONGTEXT를 읽지 않는다
+ * - 행은 User 저장 시 함께 생성되므로 이 엔티티로는 INSERT 하지 않는다
+ * - 신규 이미지는 User.imageKey 사용, 이 컬럼은 마이그레이션 용도로만 남김
+ */
+@Entity
+@Table(name = "USERS")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserProfileImage {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "INT UNSIGNED")
+    private Long userId;
+
+    @Lob
+    @Column(columnDefinition = "LONGTEXT")
+    private String image;
+}
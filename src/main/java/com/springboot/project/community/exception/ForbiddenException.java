@@ -0,0 +1,11 @@
+package com.springboot.project.community.exception;
+
+/**
+ * 권한 없음 - 본인 게시글/댓글이 아님 (403 Forbidden)
+ */
+public class ForbiddenException extends RuntimeException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.springboot.project.community.exception;
+
+/**
+ * 대상이 없음 (404 Not Found)
+ */
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
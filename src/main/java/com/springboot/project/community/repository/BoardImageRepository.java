@@ -2,15 +2,29 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.BoardImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  *  게시글 이미지 Repository
  */
 @Repository
-public interface BoardImageRepository extends JpaRepository<BoardImage, Long> {
+public interface BoardImageRepository extends JpaRepository<BoardImage, Long>, BoardImageRepositoryCustom {
 //    void deleteAllByBoard_PostId(Long postId);
     List<BoardImage> findByBoard_PostIdOrderBySortOrderAsc(Long postId);
+
+    // 게시글 수정에서 빠진 이미지 삭제 (수정 중인 게시글 변경분을 먼저 flush)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM BOARD_IMAGE WHERE post_id = :postId AND image_id IN (:imageIds)", nativeQuery = true)
+    int deleteByPostIdAndImageIdIn(@Param("postId") Long postId, @Param("imageIds") Collection<Long> imageIds);
+
+    // 삭제된 게시글의 이미지를 최대 limit 행 삭제 (idx_post 범위)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM BOARD_IMAGE WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId, @Param("limit") int limit);
 }
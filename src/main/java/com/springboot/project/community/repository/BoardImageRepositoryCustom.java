@@ -0,0 +1,34 @@
+package com.springboot.project.community.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  게시글 이미지 일괄 저장/순서 변경
+ */
+public interface BoardImageRepositoryCustom {
+
+    /**
+     * 저장할 이미지 (URL, 순서)
+     */
+    record BoardImageRow(String imageUrl, int sortOrder) {
+    }
+
+    /**
+     * 이미지 URL 목록을 sort_order 0..n-1 로 저장 (JDBC 배치 1회)
+     * @return 저장한 행 수
+     */
+    int insertAll(Long postId, Long userId, List<String> imageUrls);
+
+    /**
+     * 이미지 행을 지정한 순서로 저장 (JDBC 배치 1회)
+     * @return 저장한 행 수
+     */
+    int insertRows(Long postId, Long userId, List<BoardImageRow> rows);
+
+    /**
+     * 이미지 순서 일괄 변경 (image_id → sort_order, CASE UPDATE 1문장)
+     * @return 변경한 행 수
+     */
+    int updateSortOrders(Long postId, Map<Long, Integer> sortOrders);
+}
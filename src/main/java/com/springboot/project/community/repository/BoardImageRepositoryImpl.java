@@ -0,0 +1,85 @@
+package com.springboot.project.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  게시글 이미지 일괄 저장/순서 변경 구현체
+ * - BoardImage 는 IDENTITY 키라서 Hibernate 가 INSERT 를 배치로 묶지 못함 (saveAll = 이미지 수만큼 INSERT)
+ * - JdbcTemplate 배치로 보내고, 드라이버의 rewriteBatchedStatements=true 가 multi-row INSERT 한 문장으로 합친다
+ * - 같은 트랜잭션의 커넥션을 사용하므로 게시글 INSERT 와 함께 커밋/롤백
+ */
+@RequiredArgsConstructor
+public class BoardImageRepositoryImpl implements BoardImageRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO BOARD_IMAGE (post_id, user_id, image_url, sort_order, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(Long postId, Long userId, List<String> imageUrls) {
+        List<BoardImageRow> rows = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            rows.add(new BoardImageRow(imageUrls.get(i), i));
+        }
+        return insertRows(postId, userId, rows);
+    }
+
+    @Override
+    public int insertRows(Long postId, Long userId, List<BoardImageRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BoardImageRow row = rows.get(i);
+                ps.setLong(1, postId);
+                ps.setLong(2, userId);
+                ps.setString(3, row.imageUrl());
+                ps.setInt(4, row.sortOrder());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        return rows.size();
+    }
+
+    @Override
+    public int updateSortOrders(Long postId, Map<Long, Integer> sortOrders) {
+        if (sortOrders.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE BOARD_IMAGE SET sort_order = CASE image_id");
+        List<Object> args = new ArrayList<>(sortOrders.size() * 3 + 1);
+        sortOrders.forEach((imageId, sortOrder) -> {
+            sql.append(" WHEN ? THEN ?");
+            args.add(imageId);
+            args.add(sortOrder);
+        });
+        sql.append(" END WHERE post_id = ? AND image_id IN (")
+                .append(String.join(", ", Collections.nCopies(sortOrders.size(), "?")))
+                .append(")");
+        args.add(postId);
+        args.addAll(sortOrders.keySet());
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -3,8 +3,15 @@ package com.springboot.project.community.repository;
 import com.springboot.project.community.entity.BoardLike;
 import com.springboot.project.community.entity.BoardLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  *  좋아요 Repository
  */
@@ -12,4 +19,78 @@ import org.springframework.stereotype.Repository;
 public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeId> {
     long countByBoard_PostIdAndDeletedFalse(Long postId);
     boolean existsByLikeIdAndDeletedFalse(BoardLikeId likeId);
+
+    /**
+     * postIds 중 사용자가 좋아요 한 게시글 id (PK (user_id, post_id) 범위 조회)
+     */
+    @Query("SELECT l.likeId.postId FROM BoardLike l " +
+            "WHERE l.likeId.userId = :userId AND l.likeId.postId IN :postIds AND l.deleted = false")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 좋아요 토글 (없으면 생성, 있으면 is_deleted 반전)
+     * - 반환값(affected rows): 1 = 새로 생성(좋아요), 2 = 기존 행 토글, 0 = 게시글 없음
+     * - 게시글 존재 확인을 INSERT ... SELECT 로 같이 처리해서 별도 조회 없음
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO BOARD_LIKE (user_id, post_id, is_deleted) " +
+            "SELECT :userId, b.post_id, 0 FROM BOARD b WHERE b.post_id = :postId AND b.deleted_at IS NULL " +
+            "ON DUPLICATE KEY UPDATE is_deleted = NOT is_deleted",
+            nativeQuery = true)
+    int upsertToggle(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 취소했던 좋아요 복구 (이미 좋아요 상태거나 행이 없거나 게시글이 삭제되었으면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE BOARD_LIKE l JOIN BOARD b ON b.post_id = l.post_id AND b.deleted_at IS NULL " +
+            "SET l.is_deleted = 0 " +
+            "WHERE l.user_id = :userId AND l.post_id = :postId AND l.is_deleted = 1",
+            nativeQuery = true)
+    int restore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 행 생성 (이미 있거나 게시글이 없으면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO BOARD_LIKE (user_id, post_id, is_deleted) " +
+            "SELECT :userId, b.post_id, 0 FROM BOARD b WHERE b.post_id = :postId AND b.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 취소 (이미 취소 상태거나 행이 없거나 게시글이 삭제되었으면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE BOARD_LIKE l JOIN BOARD b ON b.post_id = l.post_id AND b.deleted_at IS NULL " +
+            "SET l.is_deleted = 1 " +
+            "WHERE l.user_id = :userId AND l.post_id = :postId AND l.is_deleted = 0",
+            nativeQuery = true)
+    int softDelete(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 토글 직후 상태 (현재 좋아요 수 + 내 좋아요 삭제 여부)
+     * - 좋아요 수 = BOARD_STATS + 아직 합산되지 않은 BOARD_STATS_SHARD
+     * - 삭제 표시된 게시글이면 빈 결과
+     */
+    @Query(value = "SELECT COALESCE(s.like_count, 0) + " +
+            "(SELECT COALESCE(SUM(sh.like_delta), 0) FROM BOARD_STATS_SHARD sh WHERE sh.post_id = l.post_id) AS likeCount, " +
+            "l.is_deleted AS deleted " +
+            "FROM BOARD_LIKE l JOIN BOARD b ON b.post_id = l.post_id AND b.deleted_at IS NULL " +
+            "LEFT JOIN BOARD_STATS s ON s.post_id = l.post_id " +
+            "WHERE l.user_id = :userId AND l.post_id = :postId",
+            nativeQuery = true)
+    Optional<LikeState> findLikeState(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 삭제된 게시글의 좋아요를 최대 limit 행 삭제 (idx_like_post_deleted 범위)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM BOARD_LIKE WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    interface LikeState {
+        Long getLikeCount();
+        Boolean getDeleted();
+    }
 }
@@ -2,17 +2,64 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  *  게시글 Repository
  */
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 //    List<Board> findAllByOrderByCreatedAtDesc();
     @Query("SELECT b FROM Board b ORDER BY b.id DESC")
     List<Board> findAllDesc();
+
+    /**
+     * 본인 게시글 제목/내용 수정 (UPDATE 1문장, 엔티티 조회 없음)
+     * - 값이 같으면 updated_at 을 그대로 두어 실제 쓰기가 일어나지 않게 한다 (SET 은 왼쪽부터 적용)
+     * - 비교는 BINARY: 컬럼 콜레이션(대소문자/악센트 무시) 기준이면 대소문자만 바꾼 수정이 변경 없음으로 취급된다
+     * - 반환값 0 = 게시글 없음/삭제됨 또는 작성자가 아님
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE BOARD SET updated_at = IF(NOT (BINARY title <=> :title) OR NOT (BINARY contents <=> :contents), :now, updated_at), " +
+            "title = :title, contents = :contents " +
+            "WHERE post_id = :postId AND user_id = :userId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int updateContent(@Param("postId") Long postId,
+                      @Param("userId") Long userId,
+                      @Param("title") String title,
+                      @Param("contents") String contents,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 수정 전 게시글 상태 (작성자/제목/내용/작성·수정 시각, 엔티티 조회 없음)
+     * - 삭제된 게시글이면 빈 값
+     */
+    @Query("SELECT b.author.userId AS userId, b.title AS title, b.contents AS contents, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt FROM Board b WHERE b.postId = :postId")
+    Optional<EditState> findEditState(@Param("postId") Long postId);
+
+    // 정리 대상 (삭제 표시된 게시글, 오래된 순, idx_board_deleted 범위)
+    @Query(value = "SELECT post_id FROM BOARD WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedPostIds(@Param("limit") int limit);
+
+    // 삭제 표시된 게시글 행 제거 (자식 테이블을 먼저 지운 뒤 호출)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM BOARD WHERE post_id = :postId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    interface EditState {
+        Long getUserId();
+        String getTitle();
+        String getContents();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
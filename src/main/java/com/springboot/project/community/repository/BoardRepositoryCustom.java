@@ -0,0 +1,23 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.dto.board.BoardCursor;
+import com.springboot.project.community.dto.board.BoardListRes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ *  게시글 QueryDSL Repository
+ */
+public interface BoardRepositoryCustom {
+
+    /**
+     * 게시글 목록 (OFFSET 페이지네이션)
+     */
+    Page<BoardListRes> findBoardList(Pageable pageable);
+
+    /**
+     * 게시글 목록 (커서 기반, cursor가 null이면 첫 페이지)
+     */
+    Slice<BoardListRes> findBoardSlice(BoardCursor cursor, int size);
+}
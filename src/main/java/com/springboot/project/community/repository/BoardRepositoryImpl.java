@@ -0,0 +1,94 @@
+package com.springboot.project.community.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.project.community.dto.board.BoardCursor;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.util.ImageUrlUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.springboot.project.community.entity.QBoard.board;
+import static com.springboot.project.community.entity.QBoardStats.boardStats;
+import static com.springboot.project.community.entity.QUser.user;
+
+/**
+ *  게시글 QueryDSL Repository 구현체
+ * - BOARD + USERS + BOARD_STATS 를 한 번에 조인하여 BoardListRes로 바로 프로젝션
+ *   (작성자 LAZY 로딩, 통계 별도 조회로 인한 N+1 제거)
+ */
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<BoardListRes> findBoardList(Pageable pageable) {
+        List<BoardListRes> content = selectBoardList()
+                .orderBy(board.createdAt.desc(), board.postId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지 등 전체 개수를 알 수 있는 경우 COUNT 쿼리 생략
+        JPAQuery<Long> countQuery = queryFactory
+                .select(board.count())
+                .from(board);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<BoardListRes> findBoardSlice(BoardCursor cursor, int size) {
+        List<BoardListRes> content = selectBoardList()
+                .where(afterCursor(cursor))
+                .orderBy(board.createdAt.desc(), board.postId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        // size + 1 건을 조회해서 다음 페이지 존재 여부 판단
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, size));
+        }
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private JPAQuery<BoardListRes> selectBoardList() {
+        return queryFactory
+                .select(Projections.fields(BoardListRes.class,
+                        board.postId.as("id"),
+                        board.title,
+                        board.contents,
+                        user.nickname.as("author"),
+                        user.imageKey.prepend(ImageUrlUtil.PATH_PREFIX).as("authorImage"),
+                        boardStats.likeCount.coalesce(0L).as("likes"),
+                        boardStats.commentCount.coalesce(0L).as("comments"),
+                        boardStats.viewCount.coalesce(0L).as("views"),
+                        board.createdAt))
+                .from(board)
+                .join(board.author, user)
+                .leftJoin(board.boardStats, boardStats);
+    }
+
+    // (createdAt, postId) 보다 이전 게시글 - idx_created(created_at, PK) seek
+    private BooleanExpression afterCursor(BoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return board.createdAt.lt(cursor.getCreatedAt())
+                .or(board.createdAt.eq(cursor.getCreatedAt())
+                        .and(board.postId.lt(cursor.getPostId())));
+    }
+}
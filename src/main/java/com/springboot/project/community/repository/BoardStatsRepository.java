@@ -1,5 +1,6 @@
 package com.springboot.project.community.repository;
 
+import com.springboot.project.community.dto.board.BoardCounts;
 import com.springboot.project.community.entity.BoardStats;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,35 +9,31 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BoardStatsRepository extends JpaRepository<BoardStats, Long> {
+public interface BoardStatsRepository extends JpaRepository<BoardStats, Long>, BoardStatsRepositoryCustom {
 
     List<BoardStats> findByPostIdIn(List<Long> postIds);
 
-    // 댓글 수 1 증가 (벌크 업데이트. DB에서 직접 값 증가 → 동시성에 안전)
-    // clearAutomatically: 벌크 연산 후 영속성 컨텍스트 초기화
+    /**
+     * 통계 + 아직 합산되지 않은 샤드 변경분
+     * - 통계 행이 없거나 삭제 표시된 게시글이면 빈 결과
+     */
+    @Query(value = "SELECT s.like_count + COALESCE(p.like_delta, 0) AS likeCount, " +
+            "s.view_count + COALESCE(p.view_delta, 0) AS viewCount, " +
+            "s.comment_count + COALESCE(p.comment_delta, 0) AS commentCount " +
+            "FROM BOARD_STATS s JOIN BOARD b ON b.post_id = s.post_id AND b.deleted_at IS NULL " +
+            "LEFT JOIN (" +
+            "  SELECT post_id, SUM(like_delta) AS like_delta, SUM(view_delta) AS view_delta, SUM(comment_delta) AS comment_delta " +
+            "  FROM BOARD_STATS_SHARD WHERE post_id = :postId GROUP BY post_id" +
+            ") p ON p.post_id = s.post_id " +
+            "WHERE s.post_id = :postId",
+            nativeQuery = true)
+    Optional<BoardCounts> findCounts(@Param("postId") Long postId);
+
+    // 게시글 삭제 시 통계 행 제거
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE BoardStats bs SET bs.commentCount = bs.commentCount + 1 WHERE bs.postId = :postId")
-    int incrementCommentCount(@Param("postId") Long postId);
-
-    // 댓글 수 1 감소 (0 아래로 내려가지 않도록 조건 추가)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE BoardStats bs SET bs.commentCount = bs.commentCount - 1 WHERE bs.postId = :postId AND bs.commentCount > 0")
-    int decrementCommentCount(@Param("postId") Long postId);
-
-    // 좋아요 수 1 증가
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE BoardStats bs SET bs.likeCount = bs.likeCount + 1 WHERE bs.postId = :postId")
-    int incrementLikeCount(@Param("postId") Long postId);
-
-    // 좋아요 수 1 감소 (0 아래로 내려가지 않도록 조건 추가)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE BoardStats bs SET bs.likeCount = bs.likeCount - 1 WHERE bs.postId = :postId AND bs.likeCount > 0")
-    int decrementLikeCount(@Param("postId") Long postId);
-
-    // 조회수 1 증가 (벌크 업데이트. DB에서 직접 값 증가 → 동시성에 안전)
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE BoardStats bs SET bs.viewCount = bs.viewCount + 1 WHERE bs.postId = :postId")
-    int incrementViewCount(@Param("postId") Long postId);
+    @Query(value = "DELETE FROM BOARD_STATS WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
 }
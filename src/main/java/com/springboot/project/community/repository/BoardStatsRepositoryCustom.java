@@ -0,0 +1,28 @@
+package com.springboot.project.community.repository;
+
+import java.util.Map;
+
+/**
+ *  게시글 통계 벌크 업데이트 Repository
+ */
+public interface BoardStatsRepositoryCustom {
+
+    /**
+     * 여러 게시글의 조회수를 한 번의 UPDATE로 증가
+     * @param deltas postId → 증가량
+     * @return 반영된 행 수
+     */
+    int addViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * post_id 구간 [fromPostId, toPostId] 의 좋아요/댓글 수를 원본 테이블 기준으로 다시 계산
+     * - 통계 = 실제 개수 - 아직 합산되지 않은 샤드 변경분
+     * - 호출하는 쪽 트랜잭션 안에서 실행 (구간 단위로 짧게)
+     * @return 보정 전 차이
+     */
+    StatsDrift reconcileRange(long fromPostId, long toPostId);
+
+    /** 구간 내 보정 결과 (행 수 / 차이 절댓값 합) */
+    record StatsDrift(long likeRows, long likeDiff, long commentRows, long commentDiff) {
+    }
+}
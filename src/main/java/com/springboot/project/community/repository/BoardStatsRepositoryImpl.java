@@ -0,0 +1,116 @@
+package com.springboot.project.community.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  게시글 통계 벌크 업데이트 구현체
+ * - UPDATE BOARD_STATS SET view_count = view_count + CASE post_id WHEN ? THEN ? ... END
+ *   WHERE post_id IN (...) 형태로 여러 행을 한 문장에 반영
+ * - 통계 재계산은 post_id 구간 단위 GROUP BY 한 번으로 계산해서 JOIN UPDATE 한 번으로 반영
+ */
+@RequiredArgsConstructor
+public class BoardStatsRepositoryImpl implements BoardStatsRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 구간 내 게시글별 기대 통계값 (실제 개수 - 합산 대기 샤드)
+     * - 원본 테이블은 post_id 구간으로 한 번씩만 GROUP BY (게시글별 서브쿼리 없음)
+     */
+    private static final String EXPECTED_COUNTS =
+            "(SELECT b.post_id, " +
+            "  GREATEST(COALESCE(l.cnt, 0) - COALESCE(p.like_delta, 0), 0) AS likes, " +
+            "  GREATEST(COALESCE(c.cnt, 0) - COALESCE(p.comment_delta, 0), 0) AS comments " +
+            " FROM BOARD b " +
+            " LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM BOARD_LIKE " +
+            "            WHERE post_id BETWEEN :from AND :to AND is_deleted = 0 GROUP BY post_id) l ON l.post_id = b.post_id " +
+            " LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM COMMENT " +
+            "            WHERE post_id BETWEEN :from AND :to AND deleted_at IS NULL GROUP BY post_id) c ON c.post_id = b.post_id " +
+            " LEFT JOIN (SELECT post_id, SUM(like_delta) AS like_delta, SUM(comment_delta) AS comment_delta " +
+            "            FROM BOARD_STATS_SHARD WHERE post_id BETWEEN :from AND :to GROUP BY post_id) p ON p.post_id = b.post_id " +
+            " WHERE b.post_id BETWEEN :from AND :to AND b.deleted_at IS NULL)";
+
+    private final EntityManager em;
+
+    @Override
+    @Transactional
+    public int addViewCounts(Map<Long, Long> deltas) {
+        // post_id 순으로 정렬해서 잠금 순서를 고정 (여러 서버가 동시에 flush 해도 데드락 방지)
+        List<Long> postIds = new ArrayList<>(deltas.keySet());
+        postIds.sort(null);
+
+        int updated = 0;
+        for (int from = 0; from < postIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = postIds.subList(from, Math.min(from + BATCH_SIZE, postIds.size()));
+            updated += addViewCountsBatch(batch, deltas);
+        }
+        return updated;
+    }
+
+    @Override
+    public StatsDrift reconcileRange(long fromPostId, long toPostId) {
+        // 구간 내 합산 대기 샤드 잠금 (BoardStatsCompactor는 SKIP LOCKED 로 건너뜀)
+        em.createNativeQuery("SELECT post_id FROM BOARD_STATS_SHARD WHERE post_id BETWEEN :from AND :to FOR UPDATE")
+                .setParameter("from", fromPostId)
+                .setParameter("to", toPostId)
+                .getResultList();
+
+        // 통계 행이 없던 이전 게시글
+        em.createNativeQuery("INSERT IGNORE INTO BOARD_STATS (post_id, view_count, like_count, comment_count, version) " +
+                        "SELECT post_id, 0, 0, 0, 0 FROM BOARD WHERE post_id BETWEEN :from AND :to AND deleted_at IS NULL")
+                .setParameter("from", fromPostId)
+                .setParameter("to", toPostId)
+                .executeUpdate();
+
+        Object[] drift = (Object[]) em.createNativeQuery(
+                        "SELECT COALESCE(SUM(s.like_count <> e.likes), 0), COALESCE(SUM(ABS(s.like_count - e.likes)), 0), " +
+                        "COALESCE(SUM(s.comment_count <> e.comments), 0), COALESCE(SUM(ABS(s.comment_count - e.comments)), 0) " +
+                        "FROM BOARD_STATS s JOIN " + EXPECTED_COUNTS + " e ON e.post_id = s.post_id")
+                .setParameter("from", fromPostId)
+                .setParameter("to", toPostId)
+                .getSingleResult();
+
+        em.createNativeQuery("UPDATE BOARD_STATS s JOIN " + EXPECTED_COUNTS + " e ON e.post_id = s.post_id " +
+                        "SET s.like_count = e.likes, s.comment_count = e.comments " +
+                        "WHERE s.like_count <> e.likes OR s.comment_count <> e.comments")
+                .setParameter("from", fromPostId)
+                .setParameter("to", toPostId)
+                .executeUpdate();
+
+        return new StatsDrift(
+                ((Number) drift[0]).longValue(),
+                ((Number) drift[1]).longValue(),
+                ((Number) drift[2]).longValue(),
+                ((Number) drift[3]).longValue());
+    }
+
+    private int addViewCountsBatch(List<Long> postIds, Map<Long, Long> deltas) {
+        StringBuilder sql = new StringBuilder("UPDATE BOARD_STATS SET view_count = view_count + CASE post_id");
+        for (int i = 0; i < postIds.size(); i++) {
+            sql.append(" WHEN ? THEN ?");
+        }
+        sql.append(" END WHERE post_id IN (");
+        for (int i = 0; i < postIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+
+        Query query = em.createNativeQuery(sql.toString());
+        int position = 1;
+        for (Long postId : postIds) {
+            query.setParameter(position++, postId);
+            query.setParameter(position++, deltas.get(postId));
+        }
+        for (Long postId : postIds) {
+            query.setParameter(position++, postId);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,39 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.entity.BoardStatsShard;
+import com.springboot.project.community.entity.BoardStatsShardId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ *  게시글 통계 샤드 Repository
+ * - 변경분은 (post_id, shard_no) 행에 upsert로 누적 (행이 없으면 생성)
+ */
+@Repository
+public interface BoardStatsShardRepository extends JpaRepository<BoardStatsShard, BoardStatsShardId>, BoardStatsShardRepositoryCustom {
+
+    // 좋아요 토글 반영: 토글된 BOARD_LIKE 상태에 따라 +1 / -1
+    @Modifying
+    @Query(value = "INSERT INTO BOARD_STATS_SHARD (post_id, shard_no, like_delta, view_delta, comment_delta) " +
+            "SELECT l.post_id, :shardNo, IF(l.is_deleted, -1, 1), 0, 0 FROM BOARD_LIKE l " +
+            "WHERE l.user_id = :userId AND l.post_id = :postId " +
+            "ON DUPLICATE KEY UPDATE like_delta = like_delta + IF(l.is_deleted, -1, 1)",
+            nativeQuery = true)
+    int addLikeToggle(@Param("userId") Long userId, @Param("postId") Long postId, @Param("shardNo") int shardNo);
+
+    // 댓글 수 변경분 누적
+    @Modifying
+    @Query(value = "INSERT INTO BOARD_STATS_SHARD (post_id, shard_no, like_delta, view_delta, comment_delta) " +
+            "VALUES (:postId, :shardNo, 0, 0, :delta) " +
+            "ON DUPLICATE KEY UPDATE comment_delta = comment_delta + :delta",
+            nativeQuery = true)
+    int addCommentDelta(@Param("postId") Long postId, @Param("shardNo") int shardNo, @Param("delta") long delta);
+
+    // 게시글 삭제 시 남은 샤드 제거
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM BoardStatsShard s WHERE s.shardId.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,14 @@
+package com.springboot.project.community.repository;
+
+/**
+ *  게시글 통계 샤드 합산
+ */
+public interface BoardStatsShardRepositoryCustom {
+
+    /**
+     * 샤드 최대 limit 행을 BOARD_STATS에 합산하고 삭제
+     * - 다른 트랜잭션이 쓰는 중인 샤드 행은 건너뛴다 (SKIP LOCKED)
+     * @return 합산한 샤드 행 수
+     */
+    int compact(int limit);
+}
@@ -2,14 +2,45 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  *  댓글 Repository
  */
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
     List<Comment> findByBoard_PostIdOrderByCreatedAtAsc(Long postId);
+
+    /**
+     * 본인 댓글 내용 수정 (UPDATE 1문장, 엔티티 조회 없음)
+     * - 값이 같으면 updated_at 을 그대로 두어 실제 쓰기가 일어나지 않게 한다 (비교는 BINARY)
+     * - 삭제 표시된 게시글의 댓글은 수정하지 않는다 (BOARD 조인)
+     * - 반환값 0 = 댓글/게시글 없음·삭제됨 또는 작성자가 아님
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE COMMENT c JOIN BOARD b ON b.post_id = c.post_id AND b.deleted_at IS NULL " +
+            "SET c.updated_at = IF(NOT (BINARY c.contents <=> :contents), :now, c.updated_at), c.contents = :contents " +
+            "WHERE c.comment_id = :commentId AND c.post_id = :postId AND c.user_id = :userId AND c.deleted_at IS NULL",
+            nativeQuery = true)
+    int updateContents(@Param("commentId") Long commentId,
+                       @Param("postId") Long postId,
+                       @Param("userId") Long userId,
+                       @Param("contents") String contents,
+                       @Param("now") LocalDateTime now);
+
+    // 삭제된 게시글의 댓글을 최대 limit 행 삭제 (idx_comment_board_created 범위)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM COMMENT WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    // 개별 삭제된 댓글을 최대 limit 행 삭제 (idx_comment_deleted 범위)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM COMMENT WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    int deleteTombstones(@Param("limit") int limit);
 }
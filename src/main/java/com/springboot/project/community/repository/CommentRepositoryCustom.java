@@ -0,0 +1,28 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.dto.comment.CommentCursor;
+import com.springboot.project.community.dto.comment.CommentRes;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ *  댓글 QueryDSL Repository
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * 댓글 커서 조회 (post_id, created_at, comment_id 순 keyset)
+     * - 작성자를 조인해서 CommentRes로 바로 프로젝션 (작성자 N+1 없음, 쿼리 1회)
+     * - cursor 가 null 이면 처음부터
+     * - 게시글이 삭제 표시되었으면 빈 목록
+     * - 다음 페이지 판단을 위해 호출하는 쪽에서 limit 를 size + 1 로 넘긴다
+     */
+    List<CommentRes> findCommentPage(Long postId, CommentCursor cursor, int limit);
+
+    /**
+     * 댓글 1건 (작성자 조인 프로젝션, 쿼리 1회)
+     * - 다른 게시글의 댓글이거나 게시글이 삭제 표시되었으면 빈 값
+     */
+    Optional<CommentRes> findCommentRes(Long commentId, Long postId);
+}
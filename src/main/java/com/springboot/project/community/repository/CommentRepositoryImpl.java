@@ -0,0 +1,77 @@
+package com.springboot.project.community.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.project.community.dto.comment.CommentCursor;
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.util.ImageUrlUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.springboot.project.community.entity.QBoard.board;
+import static com.springboot.project.community.entity.QComment.comment;
+import static com.springboot.project.community.entity.QUser.user;
+
+/**
+ *  댓글 QueryDSL Repository 구현체
+ * - COMMENT + USERS 를 한 번에 조인하여 CommentRes로 바로 프로젝션
+ * - BOARD 를 명시적으로 조인해 삭제 표시된 게시글의 댓글은 제외 (경로 조건만으로는 FK 컬럼만 보고 조인하지 않음)
+ * - idx_comment_board_created (post_id, created_at, comment_id) 를 타는 keyset 조회
+ *   (OFFSET 없이 커서 이후만 읽으므로 댓글 수와 무관하게 페이지 비용이 일정)
+ */
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentRes> findCommentPage(Long postId, CommentCursor cursor, int limit) {
+        return queryFactory
+                .select(commentRes())
+                .from(comment)
+                .join(comment.board, board)
+                .leftJoin(comment.author, user)
+                .where(board.postId.eq(postId), board.deletedAt.isNull(), afterCursor(cursor))
+                .orderBy(comment.createdAt.asc(), comment.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<CommentRes> findCommentRes(Long commentId, Long postId) {
+        return Optional.ofNullable(queryFactory
+                .select(commentRes())
+                .from(comment)
+                .join(comment.board, board)
+                .leftJoin(comment.author, user)
+                .where(comment.commentId.eq(commentId),
+                        board.postId.eq(postId),
+                        board.deletedAt.isNull())
+                .fetchOne());
+    }
+
+    private QBean<CommentRes> commentRes() {
+        return Projections.fields(CommentRes.class,
+                comment.commentId,
+                comment.board.postId,
+                user.userId,
+                user.nickname.as("author"),
+                user.imageKey.prepend(ImageUrlUtil.PATH_PREFIX).as("authorImage"),
+                comment.contents.as("content"),
+                comment.createdAt);
+    }
+
+    // (createdAt, commentId) 이후 댓글 - idx_comment_board_created(post_id, created_at, comment_id) seek
+    private BooleanExpression afterCursor(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursor.getCreatedAt())
+                .or(comment.createdAt.eq(cursor.getCreatedAt())
+                        .and(comment.commentId.gt(cursor.getCommentId())));
+    }
+}
@@ -2,33 +2,65 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 /**
  * Refresh Token 리포지토리
- *
- * [향후 JWT 전환 시 사용]
+ * - 변경 쿼리는 각각 단일 문장 트랜잭션 (재사용 감지 시 폐기가 예외와 함께 롤백되지 않도록)
  */
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
     /**
-     * 사용자 ID로 Refresh Token 조회
+     * 새 family 등록 (로그인)
+     * - save() 는 지정 ID 엔티티를 merge 하면서 SELECT 를 먼저 실행하므로 INSERT 한 문장으로 처리
      */
-    Optional<RefreshToken> findByUserId(Long userId);
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens (family_id, user_id, token_hash, expires_at, revoked, created_at) " +
+            "VALUES (:familyId, :userId, :tokenHash, :expiresAt, 0, :now)",
+            nativeQuery = true)
+    int insert(@Param("familyId") String familyId,
+               @Param("userId") Long userId,
+               @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
 
     /**
-     * 토큰으로 조회
+     * 토큰 교체 (compare-and-set)
+     * - 현재 토큰 해시가 일치하고 폐기/만료되지 않은 경우에만 새 해시로 교체
+     * - 반환값 0 = 이미 교체된 토큰(재사용) / 폐기 / 만료 / 없는 family
      */
-    Optional<RefreshToken> findByToken(String token);
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE refresh_tokens SET token_hash = :newHash, expires_at = :expiresAt " +
+            "WHERE family_id = :familyId AND token_hash = :oldHash AND revoked = 0 AND expires_at > :now",
+            nativeQuery = true)
+    int rotate(@Param("familyId") String familyId,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
 
     /**
-     * 사용자 ID로 Refresh Token 삭제
+     * family 폐기 (재사용 감지, 로그아웃)
      */
-    void deleteByUserId(Long userId);
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE refresh_tokens SET revoked = 1 WHERE family_id = :familyId AND revoked = 0",
+            nativeQuery = true)
+    int revokeFamily(@Param("familyId") String familyId);
 
     /**
-     * 사용자 ID로 Refresh Token 존재 여부 확인
+     * 만료된 행 삭제 (최대 limit 행, idx_refresh_expires 범위 스캔)
      */
-    boolean existsByUserId(Long userId);
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,55 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 Access Token 리포지토리
+ */
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    /**
+     * 폐기 등록 (이미 있으면 무시)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_access_tokens (token_id, expires_at, created_at) " +
+            "VALUES (:tokenId, :expiresAt, :now)",
+            nativeQuery = true)
+    int insertIgnore(@Param("tokenId") String tokenId,
+                     @Param("expiresAt") LocalDateTime expiresAt,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰인지 (PK 조회)
+     */
+    boolean existsByTokenIdAndExpiresAtAfter(String tokenId, LocalDateTime now);
+
+    /**
+     * 만료되지 않은 폐기 토큰 id 전체 (블룸 필터 재구성)
+     */
+    @Query("SELECT r.tokenId FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    /**
+     * since 이후 등록된 폐기 토큰 id (다른 인스턴스의 폐기 반영, idx_revoked_created 범위 조회)
+     */
+    @Query("SELECT r.tokenId FROM RevokedAccessToken r WHERE r.createdAt >= :since AND r.expiresAt > :now")
+    List<String> findTokenIdsCreatedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 행 삭제 (최대 limit 행)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM revoked_access_tokens WHERE expires_at < :now LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
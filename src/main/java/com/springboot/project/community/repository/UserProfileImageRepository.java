@@ -0,0 +1,27 @@
+package com.springboot.project.community.repository;
+
+import com.springboot.project.community.entity.UserProfileImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ *  레거시 프로필 이미지 Repository
+ */
+@Repository
+public interface UserProfileImageRepository extends JpaRepository<UserProfileImage, Long> {
+
+    // 레거시 Base64 프로필 이미지가 남아 있는 사용자 (마이그레이션용)
+    @Query("SELECT p FROM UserProfileImage p WHERE p.image IS NOT NULL AND p.userId > :afterId ORDER BY p.userId ASC")
+    List<UserProfileImage> findLegacyImages(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 레거시 이미지 제거 (새 프로필 이미지로 교체 시)
+    @Modifying
+    @Query("UPDATE UserProfileImage p SET p.image = NULL WHERE p.userId = :userId AND p.image IS NOT NULL")
+    int clearImage(@Param("userId") Long userId);
+}
@@ -2,6 +2,9 @@ package com.springboot.project.community.repository;
 
 import com.springboot.project.community.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +17,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    // 프로필 이미지 키 변경 (레거시 이미지 마이그레이션용)
+    @Modifying
+    @Query("UPDATE User u SET u.imageKey = :imageKey WHERE u.userId = :userId")
+    int updateImageKey(@Param("userId") Long userId, @Param("imageKey") String imageKey);
 }
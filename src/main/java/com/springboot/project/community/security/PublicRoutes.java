@@ -0,0 +1,53 @@
+package com.springboot.project.community.security;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록
+ * - JwtAuthenticationFilter, AuthenticationInterceptor, SecurityConfig, WebConfig 가 같은 표를 사용
+ * - 경로를 추가할 때는 여기만 수정
+ */
+public final class PublicRoutes {
+
+    /**
+     * 인증 API (JWT 필터가 토큰을 읽지 않음)
+     */
+    public static final RouteTable AUTH = RouteTable.of(
+            "/api/auth",
+            "/api/auth/signup",
+            "/api/auth/login",
+            "/api/auth/refresh",
+            "/api/auth/check",
+            "/api/auth/check-email",
+            "/api/auth/check-nickname"
+    );
+
+    /**
+     * 정적 리소스 (JWT 필터를 아예 거치지 않음)
+     */
+    public static final RouteTable STATIC_RESOURCES = RouteTable.of(
+            "/css/**",
+            "/js/**",
+            "/images/**",
+            "/favicon.ico"
+    );
+
+    /**
+     * 그 외 누구나 접근 가능한 경로
+     */
+    public static final RouteTable PAGES = RouteTable.of(
+            "/",
+            "/error"
+    );
+
+    /**
+     * 비로그인도 조회(GET) 가능한 게시판 API
+     * - 토큰이 있으면 JWT 필터가 사용자를 식별한다 (좋아요 여부 표시)
+     */
+    public static final RouteTable BOARD_READ = RouteTable.of(
+            "/api/boards",
+            "/api/boards/*",
+            "/api/boards/*/comments"
+    );
+
+    private PublicRoutes() {
+    }
+}
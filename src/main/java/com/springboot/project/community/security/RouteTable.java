@@ -0,0 +1,63 @@
+package com.springboot.project.community.security;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 미리 컴파일한 경로 패턴 집합
+ * - 와일드카드가 없는 경로는 HashSet 조회 1회
+ * - 와일드카드 패턴은 기동 시 PathPattern 으로 한 번만 파싱하고, 요청 경로도 한 번만 분해해서 비교
+ */
+public final class RouteTable {
+
+    private final String[] patterns;
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<PathPattern> pathPatterns = new ArrayList<>();
+
+    private RouteTable(String... patterns) {
+        this.patterns = patterns.clone();
+        for (String pattern : patterns) {
+            if (pattern.indexOf('*') < 0 && pattern.indexOf('{') < 0) {
+                exactPaths.add(pattern);
+            } else {
+                pathPatterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+        }
+    }
+
+    public static RouteTable of(String... patterns) {
+        return new RouteTable(patterns);
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (pathPatterns.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : pathPatterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 원본 패턴 (SecurityConfig requestMatchers, 인터셉터 excludePathPatterns 등록용)
+     */
+    public String[] patterns() {
+        return patterns.clone();
+    }
+}
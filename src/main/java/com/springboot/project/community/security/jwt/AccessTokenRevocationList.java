@@ -0,0 +1,140 @@
+package com.springboot.project.community.security.jwt;
+
+import com.springboot.project.community.repository.RevokedAccessTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Access Token 폐기 목록 (로그아웃한 Access Token 을 만료 전에 차단)
+ * - 폐기된 jti 는 DB(revoked_access_tokens)에 저장하고, 메모리에는 블룸 필터만 둔다
+ * - 인증 필터: 블룸 필터에 없으면 바로 통과 (대부분의 요청, DB 조회 없음)
+ *             있을 수도 있으면 PK 조회로 확인 (실제 폐기 토큰 또는 오탐)
+ * - 기동 시 DB 의 만료 전 폐기 목록으로 필터를 만들고, sync-interval 마다 다른 인스턴스의 폐기를 추가
+ * - 블룸 필터는 삭제가 안 되므로 rebuild-interval 마다 만료된 행을 정리하고 새 필터로 교체
+ * - 기동 시 필터 구성에 실패해도 기동은 계속하고, 필터가 준비될 때까지는 모든 토큰을 DB 로 확인
+ *   (sync 주기마다 다시 구성 시도)
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    /** 인스턴스 간 시계 차이와 커밋 지연을 덮는 동기화 겹침 구간 */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+    private static final int SWEEP_BATCH_SIZE = 1000;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter; // null 이면 아직 구성 전 (DB 로 직접 확인)
+    private volatile LocalDateTime lastSyncAt;
+
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                     @Value("${jwt.revocation.expected-entries:100000}") long expectedEntries,
+                                     @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Access Token 폐기 목록 초기 구성 실패 - 구성 전까지 DB 로 직접 확인", e);
+        }
+    }
+
+    /**
+     * 폐기 여부
+     * - jti 가 없는 토큰(이전 버전 발급)은 폐기 대상이 아님
+     */
+    public boolean isRevoked(ParsedToken token) {
+        String tokenId = token.tokenId();
+        if (tokenId == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedAccessTokenRepository.existsByTokenIdAndExpiresAtAfter(tokenId, LocalDateTime.now());
+    }
+
+    /**
+     * Access Token 폐기 (토큰 만료 시각까지 유지)
+     */
+    public void revoke(ParsedToken token) {
+        if (token.tokenId() == null || token.expiresAt() == null) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault());
+        revokedAccessTokenRepository.insertIgnore(token.tokenId(), expiresAt, LocalDateTime.now());
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(token.tokenId());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 등록한 폐기 반영 (필터 구성 전이면 구성부터)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:5000}")
+    public void sync() {
+        try {
+            if (filter == null) {
+                rebuild();
+            } else {
+                syncSince(lastSyncAt);
+            }
+        } catch (RuntimeException e) {
+            log.error("Access Token 폐기 목록 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 만료 행 정리 후 블룸 필터 재구성
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:900000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:900000}")
+    public void scheduledRebuild() {
+        try {
+            sweepExpired();
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Access Token 폐기 목록 재구성 실패", e);
+        }
+    }
+
+    private void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+        revokedAccessTokenRepository.findActiveTokenIds(startedAt).forEach(rebuilt::put);
+        filter = rebuilt;
+        // 조회 이후 이전 필터에만 들어간 폐기를 새 필터에 다시 반영
+        syncSince(startedAt);
+    }
+
+    private void syncSince(LocalDateTime since) {
+        LocalDateTime now = LocalDateTime.now();
+        BloomFilter current = filter;
+        revokedAccessTokenRepository.findTokenIdsCreatedSince(since.minus(SYNC_OVERLAP), now)
+                .forEach(current::put);
+        lastSyncAt = now;
+    }
+
+    private void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        while (revokedAccessTokenRepository.deleteExpired(now, SWEEP_BATCH_SIZE) == SWEEP_BATCH_SIZE) {
+            // 배치마다 트랜잭션 1개
+        }
+    }
+}
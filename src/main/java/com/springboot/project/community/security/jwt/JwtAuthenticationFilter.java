@@ -1,5 +1,6 @@
 package com.springboot.project.community.security.jwt;
 
+import com.springboot.project.community.security.PublicRoutes;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,10 +20,21 @@ import java.util.stream.Collectors;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   AccessTokenRevocationList accessTokenRevocationList) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accessTokenRevocationList = accessTokenRevocationList;
+    }
+
+    /**
+     * 정적 리소스는 필터를 거치지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.STATIC_RESOURCES.matches(request.getRequestURI());
     }
 
     @Override
@@ -31,29 +43,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-        
-        if (path.equals("/api/auth") ||
-            path.startsWith("/api/auth/signup") || 
-            path.startsWith("/api/auth/login") ||
-            path.startsWith("/api/auth/refresh") ||
-            path.startsWith("/api/auth/check") ||
-            path.startsWith("/api/auth/check-email") ||
-            path.startsWith("/api/auth/check-nickname") ||
-            (method.equals("GET") && path.startsWith("/api/boards"))) {
+        if (PublicRoutes.AUTH.matches(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // 게시글 조회(GET)는 비로그인도 허용하지만, 토큰이 있으면 사용자를 식별한다 (좋아요 여부 표시)
         try {
             String token = getJwtFromRequest(request);
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            // 검증과 클레임 추출을 한 번의 파싱으로 처리 (최근 검증한 토큰이면 캐시에서, Access Token 만 통과)
+            ParsedToken parsed = token != null ? verifiedTokenCache.parse(token).orElse(null) : null;
+
+            // 로그아웃으로 폐기된 토큰 (대부분은 블룸 필터에서 바로 false)
+            if (parsed != null && accessTokenRevocationList.isRevoked(parsed)) {
+                parsed = null;
+            }
+
+            if (parsed != null) {
+                Long userId = parsed.userId();
 
-                List<String> roles = jwtTokenProvider.getRoles(token);
-                List<SimpleGrantedAuthority> authorities = roles.stream()
+                List<SimpleGrantedAuthority> authorities = parsed.roles().stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
@@ -3,6 +3,8 @@ package com.springboot.project.community.security.jwt;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.Claims;
@@ -16,6 +18,8 @@ import javax.crypto.SecretKey;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증
@@ -30,6 +34,7 @@ public class JwtTokenProvider {
 
     private final String secret;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 불변, 스레드 안전 → 한 번만 생성해서 재사용
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -45,18 +50,23 @@ public class JwtTokenProvider {
         // ✅ secretKey 초기화 추가
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     /**
      * Access Token 생성
      * - 짧은 유효기간 (15분)
      * - 클라이언트 메모리(변수)에 저장
+     * - jti: 로그아웃 시 폐기 목록에 등록하는 식별자
      */
     public String createAccessToken(Long userId, String email) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId.toString())
                 .claim("email", email)
                 .claim("type", "access")
@@ -70,15 +80,18 @@ public class JwtTokenProvider {
      * Refresh Token 생성
      * - 긴 유효기간 (7일)
      * - HttpOnly 쿠키 저장
+     * - familyId: 같은 로그인에서 재발급된 토큰끼리 공유 (재사용 감지 시 family 단위로 폐기)
      */
-    public String createRefreshToken(Long userId, String email) {
+    public String createRefreshToken(Long userId, String email, String familyId) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰이 겹치지 않도록
                 .setSubject(userId.toString())   // user 식별
                 .claim("email", email)           // 이메일 포함 (선택)
                 .claim("type", "refresh")        // refresh 토큰임을 명시
+                .claim("fid", familyId)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -87,55 +100,70 @@ public class JwtTokenProvider {
 
 
     /**
-     * 토큰에서 사용자 ID 추출
+     * 토큰 검증 + 파싱 (서명 검증 1회)
+     * - 유효하지 않으면 빈 값
      */
-    public Long getUserIdFromToken(String token){
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
-    }
-
-    /**
-     * 토큰 검증
-     */
-    public boolean validateToken(String token) {
+    public Optional<ParsedToken> parse(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(toParsedToken(parseClaims(token)));
         } catch (ExpiredJwtException e){
             log.info("만료된 토큰입니다.");
         } catch (UnsupportedJwtException e){
             log.info("지원하지 않는 토큰입니다.");
         } catch (MalformedJwtException e){
             log.info("잘못된 형식의 토큰입니다.");
-        } catch (SecurityException e){
+        } catch (SecurityException | JwtException e){
             log.info("시그니처 검증에 실패했습니다.");
         } catch (IllegalArgumentException e){
             log.info("잘못된 토큰입니다.");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * 토큰에서 사용자 ID 추출
+     */
+    public Long getUserIdFromToken(String token){
+        Claims claims = parseClaims(token);
+        return Long.parseLong(claims.getSubject());
+    }
+
+    /**
+     * 토큰 검증
+     */
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
     }
 
     /**
      * 토큰 파싱
      */
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private ParsedToken toParsedToken(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new ParsedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                rolesOf(claims),
+                claims.get("type", String.class),
+                expiration != null ? expiration.toInstant() : null,
+                claims.getId(),
+                claims.get("fid", String.class));
     }
 
     /**
      * 토큰에서 권한 추출
      */
     public List<String> getRoles(String token) {
-        Claims claims = parseClaims(token);
-        Object roles = claims.get("roles");
+        return rolesOf(parseClaims(token));
+    }
 
-        if (roles == null) {
-            return Collections.emptyList();
-        }
+    @SuppressWarnings("unchecked")
+    private List<String> rolesOf(Claims claims) {
+        Object roles = claims.get("roles");
 
         if (roles instanceof List) {
             return (List<String>) roles;
@@ -152,8 +180,10 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(userId))
                 .claim("roles", roles)  // 권한 정보 추가
+                .claim("type", "access")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS256)  // ✅ key → secretKey로 변경
@@ -0,0 +1,25 @@
+package com.springboot.project.community.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰 정보
+ * - JwtTokenProvider.parse 한 번으로 필요한 값을 모두 꺼내서 재사용 (요청당 서명 검증 1회)
+ * - tokenId: jti, familyId: Refresh Token 계열 (Refresh Token 만)
+ */
+public record ParsedToken(Long userId, String email, List<String> roles, String type, Instant expiresAt,
+                          String tokenId, String familyId) {
+
+    public ParsedToken {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
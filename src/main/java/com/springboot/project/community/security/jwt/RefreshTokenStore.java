@@ -0,0 +1,110 @@
+package com.springboot.project.community.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.project.community.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token 저장소 (Refresh Token Rotation + 재사용 감지)
+ * - 로그인마다 family 1행을 만들고, 재발급 때마다 같은 행의 토큰 해시를 교체 (UPDATE 1문장)
+ * - 교체 조건(현재 해시 일치)이 맞지 않으면 이미 쓰인 토큰이 다시 온 것 → family 전체 폐기
+ * - 폐기된 family 는 메모리에 기억해서 같은 토큰이 반복해서 와도 DB 를 다시 보지 않음
+ *   (다중 인스턴스에서는 다른 인스턴스의 폐기를 모르지만, DB 교체 조건이 실패하므로 결과는 같다)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long refreshTokenExpiration;
+    private final Cache<String, Boolean> revokedFamilies;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             JwtTokenProvider jwtTokenProvider,
+                             @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+                             @Value("${jwt.refresh-store.revoked-cache-size:10000}") long revokedCacheSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(revokedCacheSize)
+                .expireAfterWrite(Duration.ofMillis(refreshTokenExpiration))
+                .build();
+    }
+
+    /**
+     * 재발급 결과
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    /**
+     * 새 family 로 Refresh Token 발급 (로그인)
+     */
+    public String issue(Long userId, String email) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, email, familyId);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insert(familyId, userId, TokenHashes.sha256Hex(refreshToken), expiresAt(now), now);
+        return refreshToken;
+    }
+
+    /**
+     * Refresh Token 교체
+     * - 정상: UPDATE 1문장
+     * - 재사용/폐기/만료: family 폐기 후 예외 (다시 로그인 필요)
+     */
+    public Rotation rotate(String refreshToken) {
+        ParsedToken parsed = jwtTokenProvider.parse(refreshToken)
+                .filter(ParsedToken::isRefreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token입니다."));
+
+        String familyId = parsed.familyId();
+        if (familyId == null || revokedFamilies.getIfPresent(familyId) != null) {
+            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+        }
+
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(parsed.userId(), parsed.email(), familyId);
+        LocalDateTime now = LocalDateTime.now();
+        int updated = refreshTokenRepository.rotate(familyId,
+                TokenHashes.sha256Hex(refreshToken),
+                TokenHashes.sha256Hex(newRefreshToken),
+                expiresAt(now),
+                now);
+
+        if (updated == 0) {
+            revokeFamily(familyId);
+            log.warn("Refresh Token 재사용 감지: userId={}, familyId={}", parsed.userId(), familyId);
+            throw new IllegalArgumentException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+        return new Rotation(parsed.userId(), newRefreshToken);
+    }
+
+    /**
+     * Refresh Token 이 속한 family 폐기 (로그아웃)
+     */
+    public void revoke(String refreshToken) {
+        jwtTokenProvider.parse(refreshToken)
+                .filter(ParsedToken::isRefreshToken)
+                .map(ParsedToken::familyId)
+                .ifPresent(this::revokeFamily);
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    private LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plus(Duration.ofMillis(refreshTokenExpiration));
+    }
+}
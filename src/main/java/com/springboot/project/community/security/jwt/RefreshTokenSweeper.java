@@ -0,0 +1,49 @@
+package com.springboot.project.community.security.jwt;
+
+import com.springboot.project.community.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 Refresh Token 정리
+ * - jwt.refresh-store.sweep-interval 마다 만료 행을 batch-size 개씩 삭제 (배치마다 트랜잭션 1개)
+ * - 한 번에 큰 DELETE 를 하지 않아 잠금 시간과 undo 로그를 작게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    /** 한 번 실행에 처리할 최대 배치 수 */
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-store.sweep-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-store.sweep-interval:3600000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int deleted = refreshTokenRepository.deleteExpired(now, batchSize);
+                total += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("만료 Refresh Token 정리 실패", e);
+        }
+        if (total > 0) {
+            log.info("만료 Refresh Token {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.springboot.project.community.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 (SHA-256 hex)
+ * - 원문 토큰 대신 저장/캐시 키로 사용
+ */
+final class TokenHashes {
+
+    private TokenHashes() {
+    }
+
+    static String sha256Hex(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -16,13 +16,15 @@ import java.util.Map;
 public class TokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     /**
      * Access Token과 Refresh Token 발급
      */
     public Map<String, String> issueTokens(User user, HttpServletResponse response) {
         String accessToken = jwtTokenProvider.createAccessToken(user.getUserId(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getUserId(), user.getEmail());
+        String refreshToken = refreshTokenStore.issue(user.getUserId(), user.getEmail());
 
         // Refresh Token을 쿠키에 저장
         setRefreshTokenCookie(refreshToken, response);
@@ -39,19 +41,12 @@ public class TokenService {
      * Refresh Token으로 Access Token 재발급
      */
     public Map<String, String> refreshAccessToken(String refreshToken) {
-        // Refresh Token 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
-        }
-
-        // Refresh Token에서 userId 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        // Refresh Token 교체 (RTR 패턴 - Refresh Token Rotation, 재사용 시 family 폐기)
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshToken);
 
         // 새로운 Access Token 생성 (email은 null로 전달 - 필수 아님)
-        String newAccessToken = jwtTokenProvider.createAccessToken(userId, null);
-        
-        // 새로운 Refresh Token 생성 (RTR 패턴 - Refresh Token Rotation)
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, null);
+        String newAccessToken = jwtTokenProvider.createAccessToken(rotation.userId(), null);
+        String newRefreshToken = rotation.refreshToken();
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", newAccessToken);
@@ -71,7 +66,17 @@ public class TokenService {
     /**
      * 로그아웃
      */
-    public void logout(Long userId, HttpServletResponse response) {
+    public void logout(Long userId, String accessToken, String refreshToken, HttpServletResponse response) {
+        // Access Token 폐기 (만료 전까지 재사용 차단)
+        if (accessToken != null) {
+            jwtTokenProvider.parse(accessToken).ifPresent(accessTokenRevocationList::revoke);
+        }
+
+        // Refresh Token 폐기 (같은 family 의 재발급 차단)
+        if (refreshToken != null) {
+            refreshTokenStore.revoke(refreshToken);
+        }
+
         // Refresh Token 쿠키 삭제
         CookieUtil.deleteCookie(response, "refreshToken");
         
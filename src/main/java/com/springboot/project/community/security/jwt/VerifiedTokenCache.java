@@ -0,0 +1,104 @@
+package com.springboot.project.community.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 검증된 토큰 캐시
+ * - 같은 Access Token으로 반복 요청 시 서명 검증(HMAC) + Base64/JSON 디코딩을 생략
+ * - 키는 토큰 문자열의 SHA-256 (원문 토큰을 메모리에 보관하지 않음)
+ * - 항목은 토큰 만료(exp) 시각에 제거되고, 최대 max-size 개까지 보관 (초과 시 오래 안 쓰인 것부터 제거)
+ * - 검증 실패한 토큰과 Access Token 이 아닌 토큰(Refresh Token 등)은 캐시하지 않고 거부한다
+ *   (Refresh Token 을 Bearer 로 보내 인증하거나 로그아웃 폐기를 우회하지 못하도록)
+ * - 적중률은 cache.gets{cache=verifiedToken} / jwt.verified-cache.hit-ratio 지표로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, ParsedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, ParsedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, ParsedToken token, long currentTime) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ParsedToken token, long currentTime, long currentDuration) {
+                        return remainingNanos(token);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ParsedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+        Gauge.builder("jwt.verified-cache.hit-ratio", cache, c -> c.stats().hitRate())
+                .description("검증된 토큰 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Access Token 검증 + 파싱 (캐시에 있으면 검증 생략)
+     */
+    public Optional<ParsedToken> parse(String token) {
+        if (!enabled) {
+            return parseAccessToken(token);
+        }
+        ParsedToken parsed = cache.get(keyOf(token), key -> parseAccessToken(token).orElse(null));
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        // 만료 직후 제거 전에 조회된 경우
+        if (parsed.expiresAt() != null && !parsed.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(keyOf(token));
+            return Optional.empty();
+        }
+        return Optional.of(parsed);
+    }
+
+    /**
+     * 캐시에서 제거 (토큰 폐기 시)
+     */
+    public void invalidate(String token) {
+        cache.invalidate(keyOf(token));
+    }
+
+    private Optional<ParsedToken> parseAccessToken(String token) {
+        return jwtTokenProvider.parse(token).filter(ParsedToken::isAccessToken);
+    }
+
+    private static long remainingNanos(ParsedToken token) {
+        if (token.expiresAt() == null) {
+            return 0L; // 만료 없는 토큰은 캐시하지 않음
+        }
+        return Math.max(Duration.between(Instant.now(), token.expiresAt()).toNanos(), 0L);
+    }
+
+    private static String keyOf(String token) {
+        return TokenHashes.sha256Hex(token);
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.auth;
+
+/**
+ * 닉네임/프로필 이미지가 바뀌었음을 알리는 이벤트
+ * - 게시글·댓글 응답에 포함된 작성자 정보 캐시를 무효화할 때 사용
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
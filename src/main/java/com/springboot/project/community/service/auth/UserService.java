@@ -5,12 +5,17 @@ import com.springboot.project.community.dto.auth.UserRes;
 import com.springboot.project.community.dto.auth.UserSignupReq;
 import com.springboot.project.community.dto.auth.UserUpdateReq;
 import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.UserProfileImageRepository;
 import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.image.ProfileImageService;
+import com.springboot.project.community.util.ImageUrlUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -18,7 +23,10 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserProfileImageRepository userProfileImageRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ProfileImageService profileImageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입 처리
@@ -33,16 +41,16 @@ public class UserService {
             throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
         }
 
-        // 프로필 이미지 처리 (빈 문자열이면 null로 저장)
-        String image = (req.getImage() != null && !req.getImage().isBlank()) 
-                ? req.getImage() 
+        // 프로필 이미지 처리 (이미지 저장소에 저장 후 키만 보관, 빈 문자열이면 null)
+        String imageKey = (req.getImage() != null && !req.getImage().isBlank())
+                ? profileImageService.store(req.getImage())
                 : null;
         
         User user = User.builder()
                 .email(req.getEmail())
                 .password(passwordEncoder.encode(req.getPassword()))
                 .nickname(req.getNickname())
-                .image(image)
+                .imageKey(imageKey)
                 .useYn(false)
                 .build();
 
@@ -52,7 +60,7 @@ public class UserService {
                 .userId(user.getUserId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
-                .image(user.getImage())
+                .image(ImageUrlUtil.toUrl(user.getImageKey()))
                 .build();
     }
 
@@ -77,12 +85,15 @@ public class UserService {
 
     /**
      * 회원정보 수정
+     * - 바뀐 값만 엔티티에 반영 (User 는 @DynamicUpdate 라서 변경 컬럼만 UPDATE, 변경이 없으면 UPDATE 없음)
+     * - 영속 상태 엔티티를 그대로 반환 (save 재호출 없음)
      */
     @Transactional
     public User updateUser(Long userId, UserUpdateReq req) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        boolean profileChanged = false;
 
         // 닉네임 수정 (중복 체크)
         if (req.getNickname() != null && !req.getNickname().isBlank()) {
@@ -90,7 +101,10 @@ public class UserService {
             if (!user.getNickname().equals(req.getNickname()) && userRepository.existsByNickname(req.getNickname())) {
                 throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
             }
-            user.setNickname(req.getNickname());
+            if (!user.getNickname().equals(req.getNickname())) {
+                user.setNickname(req.getNickname());
+                profileChanged = true;
+            }
         }
 
         // 비밀번호 수정
@@ -101,15 +115,26 @@ public class UserService {
         // 프로필 이미지 수정
         if (req.getImage() != null) {
             // 빈 문자열이면 null로 설정 (이미지 삭제)
-            if (req.getImage().isBlank()) {
-                user.setImage(null);
-            } else {
-                user.setImage(req.getImage());
+            String imageKey = req.getImage().isBlank() ? null : profileImageService.store(req.getImage());
+            if (!Objects.equals(user.getImageKey(), imageKey)) {
+                user.setImageKey(imageKey);
+                profileChanged = true;
+            }
+            // 레거시 Base64 이미지 제거 (같은 이미지를 다시 올린 경우는 이미 정리된 상태)
+            if (imageKey == null || profileChanged) {
+                if (userProfileImageRepository.clearImage(userId) > 0) {
+                    profileChanged = true;
+                }
             }
         }
 
-        // 저장 (JPA 영속성 컨텍스트에 의해 자동 update)
-        return userRepository.save(user);
+        // 게시글/댓글 캐시에 들어있는 작성자 정보 무효화
+        if (profileChanged) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
+        }
+
+        // 영속성 컨텍스트의 변경 감지로 커밋 시 UPDATE
+        return user;
     }
 
     /**
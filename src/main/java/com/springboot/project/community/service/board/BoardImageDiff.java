@@ -0,0 +1,52 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.repository.BoardImageRepositoryCustom.BoardImageRow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 게시글 이미지 변경분 계산 (현재 이미지 → 요청한 URL 순서)
+ * - 같은 URL 은 기존 행을 그대로 사용 (순서만 바뀌면 sort_order 만 변경)
+ * - 없어진 URL 은 삭제, 새 URL 은 추가
+ * - 같은 URL 이 여러 번 있으면 앞에서부터 하나씩 짝지음
+ */
+record BoardImageDiff(List<Long> deletedIds, List<BoardImageRow> inserted, Map<Long, Integer> reordered) {
+
+    static BoardImageDiff of(List<BoardImage> current, List<String> targetUrls) {
+        Map<String, Deque<BoardImage>> byUrl = new HashMap<>();
+        for (BoardImage image : current) {
+            byUrl.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<BoardImageRow> inserted = new ArrayList<>();
+        Map<Long, Integer> reordered = new LinkedHashMap<>();
+        for (int order = 0; order < targetUrls.size(); order++) {
+            String url = targetUrls.get(order);
+            Deque<BoardImage> matches = byUrl.get(url);
+            BoardImage kept = matches != null ? matches.poll() : null;
+            if (kept == null) {
+                inserted.add(new BoardImageRow(url, order));
+            } else if (!Objects.equals(kept.getSortOrder(), order)) {
+                reordered.put(kept.getImageId(), order);
+            }
+        }
+
+        List<Long> deletedIds = byUrl.values().stream()
+                .flatMap(Deque::stream)
+                .map(BoardImage::getImageId)
+                .toList();
+        return new BoardImageDiff(deletedIds, inserted, reordered);
+    }
+
+    boolean isEmpty() {
+        return deletedIds.isEmpty() && inserted.isEmpty() && reordered.isEmpty();
+    }
+}
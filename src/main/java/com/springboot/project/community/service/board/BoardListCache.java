@@ -0,0 +1,131 @@
+package com.springboot.project.community.service.board;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.dto.board.BoardSliceRes;
+import com.springboot.project.community.repository.BoardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 앞쪽 페이지 캐시 (read-through + refresh-ahead)
+ * - 대상: page 0..max-page (OFFSET 조회) 와 커서 없는 첫 페이지, size <= max-size
+ * - refresh-after 가 지나면 기존 값을 그대로 응답하면서 백그라운드에서 한 번만 다시 조회
+ *   (같은 키의 동시 미스/갱신은 Caffeine이 하나로 합치므로 키당 갱신 주기마다 DB 조회 1회)
+ * - 게시글 작성/수정/삭제 커밋 후 세대(generation)를 올려 캐시된 페이지를 모두 갱신
+ * - 세대는 조회 시작 시점 값으로 기록하므로, 커밋과 겹친 조회 결과는 다음 접근 때 다시 갱신된다
+ */
+@Component
+public class BoardListCache {
+
+    /** 캐시 키 (cursor=true 이면 커서 기반 첫 페이지) */
+    private record Key(int page, int size, boolean cursor) {
+    }
+
+    /** 캐시 값 + 조회 시작 시점의 세대 */
+    private record Entry(long generation, Object value) {
+    }
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final AtomicLong generation = new AtomicLong();
+    private final LoadingCache<Key, Entry> cache;
+    private final int maxPage;
+    private final int maxSize;
+
+    public BoardListCache(BoardRepository boardRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${board.list-cache.max-page:2}") int maxPage,
+                          @Value("${board.list-cache.max-size:50}") int maxSize,
+                          @Value("${board.list-cache.refresh-after:1000}") long refreshAfterMillis,
+                          @Value("${board.list-cache.expire-after:30000}") long expireAfterMillis) {
+        this.boardRepository = boardRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.maxPage = maxPage;
+        this.maxSize = maxSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(200)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMillis))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardList");
+    }
+
+    /**
+     * OFFSET 기반 목록 (앞쪽 페이지만 캐시)
+     */
+    @SuppressWarnings("unchecked")
+    public Page<BoardListRes> getPage(int page, int size) {
+        if (page > maxPage || size > maxSize) {
+            return readOnlyTx.execute(status -> loadPage(page, size));
+        }
+        return (Page<BoardListRes>) get(new Key(page, size, false));
+    }
+
+    /**
+     * 커서 기반 첫 페이지 (이후 페이지는 캐시하지 않음)
+     */
+    public BoardSliceRes getFirstSlice(int size) {
+        if (size > maxSize) {
+            return readOnlyTx.execute(status -> loadFirstSlice(size));
+        }
+        return (BoardSliceRes) get(new Key(0, size, true));
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 커밋 후 세대 증가 + 캐시된 페이지 비동기 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardListChanged(BoardListChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().forEach(cache::refresh);
+    }
+
+    /**
+     * 전체 제거 (테스트/운영 도구용)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Object get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry.generation() < generation.get()) {
+            // 커밋과 겹친 조회 결과 → 응답은 그대로 하고 다시 갱신 (진행 중이면 합쳐짐)
+            cache.refresh(key);
+        }
+        return entry.value();
+    }
+
+    private Entry load(Key key) {
+        long current = generation.get();
+        Object value = readOnlyTx.execute(status -> key.cursor()
+                ? loadFirstSlice(key.size())
+                : loadPage(key.page(), key.size()));
+        return new Entry(current, value);
+    }
+
+    private Page<BoardListRes> loadPage(int page, int size) {
+        return boardRepository.findBoardList(PageRequest.of(page, size));
+    }
+
+    private BoardSliceRes loadFirstSlice(int size) {
+        Slice<BoardListRes> boards = boardRepository.findBoardSlice(null, size);
+        return BoardSliceRes.of(boards, size);
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 게시글 목록 구성이 바뀌었음을 알리는 이벤트
+ * - 게시글 작성/수정/삭제 시 발행 (BoardListCache 세대 증가)
+ */
+public record BoardListChangedEvent(Long postId) {
+}
@@ -0,0 +1,128 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.BoardLikeRepository;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsShardRepository;
+import com.springboot.project.community.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시된 게시글/댓글 정리
+ * - 삭제 요청은 deleted_at 만 기록하고, 실제 행 삭제는 여기서 나눠서 처리
+ * - 테이블마다 chunk-size 행씩 짧은 트랜잭션으로 지우고, 꽉 찬 chunk 뒤에는 pause 만큼 쉰다
+ *   (댓글이 많은 게시글을 지워도 잠금이 짧아 동시 조회/작성이 막히지 않음)
+ * - 게시글: COMMENT → BOARD_LIKE → BOARD_IMAGE → BOARD_STATS_SHARD, BOARD_STATS, BOARD 순 (FK 순서)
+ */
+@Slf4j
+@Component
+public class BoardPurger {
+
+    /** 한 번 실행에 정리할 최대 게시글 수 */
+    private static final int MAX_POSTS_PER_RUN = 100;
+    /** 한 번 실행에 처리할 최대 댓글 chunk 수 */
+    private static final int MAX_COMMENT_CHUNKS_PER_RUN = 100;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardLikeRepository boardLikeRepository;
+    private final BoardImageRepository boardImageRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final BoardStatsShardRepository boardStatsShardRepository;
+    private final TransactionTemplate chunkTx;
+
+    @Value("${board.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${board.purge.pause:20}")
+    private long pauseMillis;
+
+    public BoardPurger(BoardRepository boardRepository,
+                       CommentRepository commentRepository,
+                       BoardLikeRepository boardLikeRepository,
+                       BoardImageRepository boardImageRepository,
+                       BoardStatsRepository boardStatsRepository,
+                       BoardStatsShardRepository boardStatsShardRepository,
+                       PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardLikeRepository = boardLikeRepository;
+        this.boardImageRepository = boardImageRepository;
+        this.boardStatsRepository = boardStatsRepository;
+        this.boardStatsShardRepository = boardStatsShardRepository;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkTx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @Scheduled(fixedDelayString = "${board.purge.interval:10000}")
+    public void purge() {
+        try {
+            List<Long> postIds = boardRepository.findDeletedPostIds(MAX_POSTS_PER_RUN);
+            for (Long postId : postIds) {
+                purgePost(postId);
+            }
+
+            int chunks = 0;
+            while (chunks++ < MAX_COMMENT_CHUNKS_PER_RUN
+                    && deleteChunk(() -> commentRepository.deleteTombstones(chunkSize))) {
+                pause();
+            }
+        } catch (RuntimeException e) {
+            // 지운 chunk 는 그대로 두고 남은 행은 다음 주기에 이어서 정리
+            log.error("삭제된 게시글/댓글 정리 실패", e);
+        }
+    }
+
+    private void purgePost(Long postId) {
+        deleteAll(() -> commentRepository.deleteByPostId(postId, chunkSize));
+        deleteAll(() -> boardLikeRepository.deleteByPostId(postId, chunkSize));
+        deleteAll(() -> boardImageRepository.deleteByPostId(postId, chunkSize));
+
+        // 게시글당 최대 샤드 수만큼이라 한 트랜잭션으로 처리
+        chunkTx.executeWithoutResult(status -> {
+            boardStatsShardRepository.deleteByPostId(postId);
+            boardStatsRepository.deleteByPostId(postId);
+            boardRepository.deleteByPostId(postId);
+        });
+    }
+
+    /**
+     * 더 지울 행이 없을 때까지 chunk 단위로 삭제
+     */
+    private void deleteAll(IntSupplier chunk) {
+        while (deleteChunk(chunk)) {
+            pause();
+        }
+    }
+
+    /**
+     * chunk 하나 삭제 (트랜잭션 1개)
+     * @return 꽉 찬 chunk 였으면 true (남은 행이 있을 수 있음)
+     */
+    private boolean deleteChunk(IntSupplier chunk) {
+        Integer deleted = chunkTx.execute(status -> chunk.getAsInt());
+        return deleted != null && deleted >= chunkSize;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("삭제 정리가 중단되었습니다.", e);
+        }
+    }
+}
@@ -1,30 +1,41 @@
 package com.springboot.project.community.service.board;
 
 import com.springboot.project.community.dto.board.*;
-import com.springboot.project.community.dto.comment.CommentRes;
 import com.springboot.project.community.entity.*;
+import com.springboot.project.community.exception.ForbiddenException;
+import com.springboot.project.community.exception.NotFoundException;
 import com.springboot.project.community.repository.*;
 import jakarta.persistence.PostUpdate;
+import com.springboot.project.community.service.like.LikedPostCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardService {
 
+    /** 커서 조회에서 한 번에 조회할 수 있는 최대 게시글 수 */
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final BoardRepository boardRepository;
-    private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BoardStatsRepository boardStatsRepository;
     private final BoardImageRepository boardImageRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailReader postDetailReader;
+    private final BoardListCache boardListCache;
+    private final LikedPostCache likedPostCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PostRes create(Long userId, PostCreateReq req) {
@@ -39,22 +50,16 @@ public class BoardService {
 
         boardRepository.save(board);
 
-        List<BoardImage> images = new ArrayList<>();
-        if (req.getImageUrls() != null) {
-            int order = 0;
-            for (String url : req.getImageUrls()) {
-                BoardImage image = BoardImage.builder()
-                        .board(board)
-                        .user(author)
-                        .imageUrl(url)
-                        .sortOrder(order++)
-                        .build();
-                images.add(image);
-            }
-            boardImageRepository.saveAll(images);
-        }
+        // 통계 행을 게시글과 함께 생성 (조회 경로에서 INSERT 하지 않도록)
+        boardStatsRepository.save(BoardStats.builder()
+                .postId(board.getPostId())
+                .board(board)
+                .build());
 
+        // 이미지는 JDBC 배치로 한 번에 저장 (이미지 수와 무관하게 INSERT 1문장)
         List<String> imageUrls = req.getImageUrls() != null ? req.getImageUrls() : List.of();
+        boardImageRepository.insertAll(board.getPostId(), userId, imageUrls);
+        eventPublisher.publishEvent(new BoardListChangedEvent(board.getPostId()));
 
         return PostRes.builder()
                 .postId(board.getPostId())
@@ -66,125 +71,134 @@ public class BoardService {
                 .build();
     }
 
+    /**
+     * 게시글 수정
+     * - 수정 전 상태를 프로젝션 1회로 읽어 404(없음) / 403(본인 아님) 판단 (사용자/게시글 엔티티를 읽지 않음)
+     * - 제목/내용이 그대로면 UPDATE 를 생략, 바뀌었으면 작성자 조건을 건 UPDATE 1문장
+     * - 제목/내용이 null 이면 기존 값 유지 (이미지만 바꾸는 요청)
+     * - 실제로 바뀐 것이 없으면 캐시 무효화 이벤트도 보내지 않는다
+     */
     @Transactional
     public PostUpdateReq update(Long userId, Long postId, PostUpdateReq req) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
+        BoardRepository.EditState state = boardRepository.findEditState(postId)
+                .orElseThrow(() -> new NotFoundException("게시글이 존재하지 않습니다. postId=" + postId));
+        if (!state.getUserId().equals(userId)) {
+            throw new ForbiddenException("본인이 작성한 게시글만 수정할 수 있습니다.");
+        }
 
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
+        String title = req.getTitle() != null ? req.getTitle() : state.getTitle();
+        String contents = req.getContents() != null ? req.getContents() : state.getContents();
+        boolean contentChanged = !title.equals(state.getTitle()) || !contents.equals(state.getContents());
+        LocalDateTime updatedAt = state.getUpdatedAt();
+        if (contentChanged) {
+            LocalDateTime now = LocalDateTime.now();
+            if (boardRepository.updateContent(postId, userId, title, contents, now) == 0) {
+                // 읽은 뒤 삭제된 경우
+                throw new NotFoundException("게시글이 존재하지 않습니다. postId=" + postId);
+            }
+            updatedAt = now;
+        }
 
-        if (!board.getAuthor().getUserId().equals(userId)) {
-            throw new RuntimeException("본인이 작성한 게시글만 수정할 수 있습니다.");
+        boolean imagesChanged = req.getImageUrls() != null && updateImages(postId, userId, req.getImageUrls());
+        if (contentChanged || imagesChanged) {
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+            eventPublisher.publishEvent(new BoardListChangedEvent(postId));
         }
 
-        board.setTitle(req.getTitle());
-        board.setContents(req.getContents());
+        return PostUpdateReq.builder()
+                .postId(postId)
+                .title(title)
+                .contents(contents)
+                .imageUrls(req.getImageUrls())
+                .createdAt(state.getCreatedAt())
+                .updatedAt(updatedAt)
+                .build();
+    }
 
-        boardRepository.save(board);
+    /**
+     * 이미지 변경분만 반영
+     * - 삭제 DELETE 1, 추가 배치 INSERT 1, 순서 변경 CASE UPDATE 1 (해당 변경이 있을 때만)
+     * - 순서만 바뀐 이미지는 지우고 다시 넣지 않는다
+     * - 반환값: 바뀐 이미지가 있었는지
+     */
+    private boolean updateImages(Long postId, Long userId, List<String> imageUrls) {
+        BoardImageDiff diff = BoardImageDiff.of(
+                boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId), imageUrls);
+        if (diff.isEmpty()) {
+            return false;
+        }
+        if (!diff.deletedIds().isEmpty()) {
+            boardImageRepository.deleteByPostIdAndImageIdIn(postId, diff.deletedIds());
+        }
+        boardImageRepository.insertRows(postId, userId, diff.inserted());
+        boardImageRepository.updateSortOrders(postId, diff.reordered());
+        return true;
+    }
 
-        return PostUpdateReq.builder()
-                .postId(board.getPostId())
-                .title(board.getTitle())
-                .contents(board.getContents())
-                .createdAt(board.getCreatedAt())
+    /**
+     * 게시글 목록 조회 (OFFSET)
+     * - 앞쪽 페이지는 BoardListCache 에서 응답 (캐시 적중 시 트랜잭션/DB 접근 없음)
+     * - 로그인 사용자는 좋아요 여부를 채워서 응답 (LikedPostCache, 최대 쿼리 1회)
+     */
+    public Page<BoardListRes> getBoardList(int page, int size, Long userId) {
+        Page<BoardListRes> boards = boardListCache.getPage(page, size);
+        Set<Long> liked = findLiked(userId, boards.getContent());
+        return boards.map(board -> board.withLiked(liked.contains(board.getId())));
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회
+     * - OFFSET/COUNT 없이 (createdAt, postId) 이후를 seek 하므로 페이지 깊이와 무관하게 비용이 일정
+     * - cursor가 비어 있으면 첫 페이지 (BoardListCache 에서 응답)
+     * - 단일 SELECT 라서 트랜잭션 없이 실행 (캐시 적중 시 커넥션을 잡지 않도록)
+     * - size 는 1 ~ MAX_PAGE_SIZE 로 보정
+     */
+    public BoardSliceRes getBoardSlice(String cursor, int size, Long userId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        BoardSliceRes boards = (cursor == null || cursor.isBlank())
+                ? boardListCache.getFirstSlice(pageSize)
+                : BoardSliceRes.of(boardRepository.findBoardSlice(BoardCursor.decode(cursor), pageSize), pageSize);
+
+        Set<Long> liked = findLiked(userId, boards.getContent());
+        return BoardSliceRes.builder()
+                .content(boards.getContent().stream()
+                        .map(board -> board.withLiked(liked.contains(board.getId())))
+                        .toList())
+                .size(boards.getSize())
+                .hasNext(boards.isHasNext())
+                .nextCursor(boards.getNextCursor())
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public Page<BoardListRes> getBoardList(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Board> boards = boardRepository.findAll(pageable);
-
-        List<Long> postIds = boards.stream()
-                .map(Board::getPostId)
-                .collect(Collectors.toList());
-
-        List<BoardStats> statsList = boardStatsRepository.findByPostIdIn(postIds);
-        Map<Long, BoardStats> statsMap = statsList.stream()
-                .collect(Collectors.toMap(BoardStats::getPostId, stats -> stats));
-
-        // Board의 author 정보를 명시적으로 로딩 (LAZY 로딩 문제 방지)
-        List<BoardListRes> responseList = boards.stream()
-                .peek(board -> {
-                    if (board.getAuthor() != null) {
-                        board.getAuthor().getNickname(); // LAZY 로딩 트리거
-                        board.getAuthor().getImage(); // 프로필 이미지 로딩
-                    }
-                })
-                .map(board -> BoardListRes.from(board, statsMap.get(board.getPostId())))
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(responseList, pageable, boards.getTotalElements());
+    private Set<Long> findLiked(Long userId, List<BoardListRes> boards) {
+        return likedPostCache.findLiked(userId, boards.stream().map(BoardListRes::getId).toList());
     }
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
-    public PostRes findById(Long postId) {
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
+    /**
+     * 게시글 상세 조회 (읽기 전용)
+     * - 제목/내용/이미지/작성자/댓글은 postDetail 캐시에서, 통계(+샤드)만 매번 조회
+     * - 조회수는 메모리 버퍼에만 쌓으므로 DB 쓰기가 없다 (읽기 전용 복제본에서도 실행 가능)
+     */
+    @Transactional(readOnly = true)
+    public PostRes findById(Long postId, Long userId) {
+        PostDetail detail = postDetailReader.read(postId);
 
-        // 작성자 정보 명시적 로딩 (프로필 이미지 포함)
-        if (board.getAuthor() != null) {
-            board.getAuthor().getNickname(); // LAZY 로딩 트리거
-            board.getAuthor().getUserId(); // LAZY 로딩 트리거
-            board.getAuthor().getImage(); // LAZY 로딩 트리거
-        }
-        
-        // Board 엔티티의 모든 필드를 트랜잭션 내에서 미리 로딩 (LAZY 로딩 방지)
-        board.getPostId();
-        board.getTitle();
-        board.getContents();
-        board.getCreatedAt();
-        board.getUpdatedAt();
-
-        // BoardStats 조회 또는 생성
-        BoardStats stats = boardStatsRepository.findById(postId)
-                .orElseGet(() -> {
-                    BoardStats newStats = BoardStats.builder()
-                            .postId(postId)
-                            .board(board)  // Board 엔티티 설정 (필수)
-                            .likeCount(0L)
-                            .commentCount(0L)
-                            .viewCount(0L)
-                            .build();
-                    return boardStatsRepository.save(newStats);
-                });
-
-        // 벌크 업데이트로 조회수 증가 (동시성 안전)
-        int updated = boardStatsRepository.incrementViewCount(postId);
-        
-        // 벌크 업데이트 성공 시 메모리의 stats 값도 증가 (응답용)
-        if (updated > 0) {
-            stats.setViewCount(stats.getViewCount() + 1);
-        }
+        // 통계 + 아직 합산되지 않은 샤드 (이전 데이터로 통계 행이 없으면 0으로 응답)
+        BoardCounts counts = boardStatsRepository.findCounts(postId).orElse(null);
+
+        // 조회수는 버퍼에 모았다가 주기적으로 반영 (조회 시 BOARD_STATS UPDATE 없음)
+        viewCountBuffer.increment(postId);
 
-        List<String> imageUrls = boardImageRepository
-                .findByBoard_PostIdOrderBySortOrderAsc(postId)
-                .stream()
-                .map(BoardImage::getImageUrl)
-                .toList();
-
-        // 댓글 (작성자 정보 포함하여 로딩)
-        List<CommentRes> commentRes = commentRepository
-                .findByBoard_PostIdOrderByCreatedAtAsc(postId)
-                .stream()
-                .peek(comment -> {
-                    // 댓글 작성자 정보 명시적 로딩 (프로필 이미지 포함)
-                    if (comment.getAuthor() != null) {
-                        comment.getAuthor().getImage(); // LAZY 로딩 트리거
-                    }
-                })
-                .map(CommentRes::from)
-                .toList();
-
-        return PostRes.of(board, stats, imageUrls, commentRes, false);
+        boolean isLiked = likedPostCache.findLiked(userId, List.of(postId)).contains(postId);
+
+        PostRes postRes = PostRes.of(detail, counts, isLiked);
+        // 아직 반영되지 않은 조회수를 더해서 응답
+        postRes.setViewCount(postRes.getViewCount() + viewCountBuffer.pendingCount(postId));
+        return postRes;
     }
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public PostDeleteRes delete(Long userId, Long postId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
-
         Board board = boardRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
 
@@ -192,22 +206,11 @@ public class BoardService {
             throw new RuntimeException("본인이 작성한 게시글만 삭제할 수 있습니다.");
         }
 
-        // 댓글 삭제
-        List<Comment> comments = commentRepository.findByBoard_PostIdOrderByCreatedAtAsc(postId);
-        if (!comments.isEmpty()) {
-            commentRepository.deleteAll(comments);
-        }
-
-        // 좋아요 삭제 (실제로는 soft delete이지만 게시글 삭제 시 관련 좋아요도 삭제)
-        // BoardLike는 복합키이므로 직접 삭제
-        // 실제로는 게시글이 삭제되면 좋아요도 의미가 없으므로 삭제하거나 무시
-
-        // BoardStats 삭제 (cascade로 자동 삭제되지만 명시적으로 삭제)
-        boardStatsRepository.findById(postId).ifPresent(boardStatsRepository::delete);
-
-        // BoardImage는 cascade로 자동 삭제됨
-        // 게시글 삭제
-        boardRepository.delete(board);
+        // 삭제 표시만 하고 바로 응답 (UPDATE 1문장, 자식 테이블 잠금 없음)
+        // - 댓글/이미지/좋아요/통계와 게시글 행은 BoardPurger 가 작은 단위로 나눠서 정리
+        board.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(new BoardListChangedEvent(postId));
 
         return PostDeleteRes.builder()
                 .postId(postId)
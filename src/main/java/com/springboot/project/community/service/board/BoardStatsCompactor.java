@@ -0,0 +1,43 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 샤드 합산기
+ * - board.stats-shard.compact-interval 마다 BOARD_STATS_SHARD를 BOARD_STATS에 합산
+ * - 한 트랜잭션에 최대 batch-size 행씩 처리하고, 꽉 찬 배치면 이어서 처리
+ * - 목록 화면은 BOARD_STATS 값만 읽으므로 최대 합산 주기만큼 늦게 반영된다
+ *   (상세 조회/좋아요 응답은 남은 샤드까지 더해서 응답)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardStatsCompactor {
+
+    /** 한 번 실행에 처리할 최대 배치 수 (밀린 샤드가 많아도 스케줄러 스레드를 오래 잡지 않도록) */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final BoardStatsShardRepository boardStatsShardRepository;
+
+    @Value("${board.stats-shard.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${board.stats-shard.compact-interval:2000}")
+    public void compact() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (boardStatsShardRepository.compact(batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되므로 샤드 행은 그대로 남아 다음 주기에 다시 합산
+            log.error("통계 샤드 합산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsShardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 좋아요/댓글 수 증감 (샤드 카운터)
+ * - 게시글당 board.stats-shard.count 개 행 중 임의의 하나에 누적하므로
+ *   동시에 같은 게시글을 갱신해도 서로 다른 행 잠금을 잡는다
+ * - 조회수는 ViewCountBuffer에서 모아서 BOARD_STATS에 직접 반영 (여기서는 다루지 않음)
+ * - 호출하는 쪽 트랜잭션에 참여
+ */
+@Component
+public class BoardStatsCounter {
+
+    private final BoardStatsShardRepository boardStatsShardRepository;
+    private final int shardCount;
+
+    public BoardStatsCounter(BoardStatsShardRepository boardStatsShardRepository,
+                             @Value("${board.stats-shard.count:16}") int shardCount) {
+        this.boardStatsShardRepository = boardStatsShardRepository;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 좋아요 토글 반영 (BOARD_LIKE의 토글된 상태 기준 +1 / -1)
+     */
+    public void applyLikeToggle(Long userId, Long postId) {
+        boardStatsShardRepository.addLikeToggle(userId, postId, randomShard());
+    }
+
+    public void incrementCommentCount(Long postId) {
+        boardStatsShardRepository.addCommentDelta(postId, randomShard(), 1);
+    }
+
+    public void decrementCommentCount(Long postId) {
+        boardStatsShardRepository.addCommentDelta(postId, randomShard(), -1);
+    }
+
+    private int randomShard() {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+}
@@ -0,0 +1,119 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsRepositoryCustom.StatsDrift;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글 통계 재계산 (BOARD_LIKE, COMMENT 기준)
+ * - 증감 방식으로 유지되는 like_count / comment_count 가 어긋난 경우 원본 개수로 보정
+ * - post_id 구간(chunk-size) 단위로 짧은 트랜잭션을 나눠 실행하고 구간 사이에 pause 만큼 쉰다
+ *   (게시글 수가 많아도 긴 잠금 없이 실행)
+ * - 보정한 행 수/차이는 board.stats.drift.* 지표로 남긴다
+ * - board.stats-reconcile.cron 으로 주기 실행 (기본 비활성), reconcile() 로 직접 실행 가능
+ */
+@Slf4j
+@Component
+public class BoardStatsReconciler {
+
+    private final BoardStatsRepository boardStatsRepository;
+    private final EntityManager em;
+    private final TransactionTemplate chunkTx;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter likeRows;
+    private final Counter likeDiff;
+    private final Counter commentRows;
+    private final Counter commentDiff;
+
+    @Value("${board.stats-reconcile.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${board.stats-reconcile.pause:50}")
+    private long pauseMillis;
+
+    public BoardStatsReconciler(BoardStatsRepository boardStatsRepository,
+                                EntityManager em,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.boardStatsRepository = boardStatsRepository;
+        this.em = em;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkTx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.likeRows = meterRegistry.counter("board.stats.drift.rows", "counter", "like");
+        this.likeDiff = meterRegistry.counter("board.stats.drift.amount", "counter", "like");
+        this.commentRows = meterRegistry.counter("board.stats.drift.rows", "counter", "comment");
+        this.commentDiff = meterRegistry.counter("board.stats.drift.amount", "counter", "comment");
+    }
+
+    @Scheduled(cron = "${board.stats-reconcile.cron:-}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 게시글 통계 재계산
+     * @return 보정한 구간 합계 (이미 실행 중이면 null)
+     */
+    public StatsDrift reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("통계 재계산이 이미 실행 중입니다.");
+            return null;
+        }
+        try {
+            Object[] range = (Object[]) em.createNativeQuery("SELECT MIN(post_id), MAX(post_id) FROM BOARD")
+                    .getSingleResult();
+            if (range[0] == null) {
+                return new StatsDrift(0, 0, 0, 0);
+            }
+            long min = ((Number) range[0]).longValue();
+            long max = ((Number) range[1]).longValue();
+
+            long totalLikeRows = 0, totalLikeDiff = 0, totalCommentRows = 0, totalCommentDiff = 0;
+            for (long from = min; from <= max; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + chunkSize - 1, max);
+                StatsDrift drift = chunkTx.execute(status -> boardStatsRepository.reconcileRange(chunkFrom, chunkTo));
+
+                likeRows.increment(drift.likeRows());
+                likeDiff.increment(drift.likeDiff());
+                commentRows.increment(drift.commentRows());
+                commentDiff.increment(drift.commentDiff());
+                totalLikeRows += drift.likeRows();
+                totalLikeDiff += drift.likeDiff();
+                totalCommentRows += drift.commentRows();
+                totalCommentDiff += drift.commentDiff();
+
+                pause();
+            }
+
+            log.info("통계 재계산 완료: posts {}~{}, like 보정 {}행(차이 {}), comment 보정 {}행(차이 {})",
+                    min, max, totalLikeRows, totalLikeDiff, totalCommentRows, totalCommentDiff);
+            return new StatsDrift(totalLikeRows, totalLikeDiff, totalCommentRows, totalCommentDiff);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("통계 재계산이 중단되었습니다.", e);
+        }
+    }
+}
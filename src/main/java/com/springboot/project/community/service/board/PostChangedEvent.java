@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.board;
+
+/**
+ * 게시글 상세 내용이 바뀌었음을 알리는 이벤트
+ * - 게시글 수정/삭제, 댓글 작성/수정/삭제 시 발행
+ */
+public record PostChangedEvent(Long postId) {
+}
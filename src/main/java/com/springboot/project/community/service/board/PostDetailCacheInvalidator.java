@@ -0,0 +1,40 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.service.auth.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 캐시 무효화
+ * - 커밋 이후에 제거해야 동시 조회가 커밋 전 데이터를 다시 캐시하지 않는다
+ * - 트랜잭션 밖에서 발행된 이벤트는 즉시 처리 (fallbackExecution)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Cache cache = cacheManager.getCache(PostDetailReader.CACHE_NAME);
+        if (cache != null) {
+            cache.evict(event.postId());
+        }
+    }
+
+    /**
+     * 작성자/댓글 작성자로 어느 게시글에든 포함될 수 있으므로 전체 제거
+     * (닉네임·프로필 변경은 드물어서 전체 제거 비용이 크지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        Cache cache = cacheManager.getCache(PostDetailReader.CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.PostDetail;
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.dto.comment.CommentSliceRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 조회 (캐시)
+ * - 게시글 + 작성자 + 이미지 + 첫 댓글 페이지를 조립해서 postDetail 캐시에 보관
+ *   (캐시 미스 시 게시글, 작성자, 이미지, 댓글+작성자 각 1회 조회)
+ * - 나머지 댓글은 GET /api/boards/{postId}/comments?after= 로 이어서 조회
+ * - PostChangedEvent / UserProfileChangedEvent 커밋 후 PostDetailCacheInvalidator가 제거한다
+ * - 크기/TTL은 spring.cache.caffeine.spec 설정
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailReader {
+
+    public static final String CACHE_NAME = "postDetail";
+
+    private final BoardRepository boardRepository;
+    private final BoardImageRepository boardImageRepository;
+    private final CommentRepository commentRepository;
+
+    /** 상세 응답에 포함할 댓글 수 */
+    @Value("${board.comment-preview-size:20}")
+    private int commentPreviewSize;
+
+    @Cacheable(cacheNames = CACHE_NAME, key = "#postId")
+    @Transactional(readOnly = true)
+    public PostDetail read(Long postId) {
+        Board board = boardRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
+
+        List<String> imageUrls = boardImageRepository
+                .findByBoard_PostIdOrderBySortOrderAsc(postId)
+                .stream()
+                .map(BoardImage::getImageUrl)
+                .toList();
+
+        // 첫 댓글 페이지 (작성자 조인 프로젝션, 쿼리 1회)
+        List<CommentRes> fetched = commentRepository.findCommentPage(postId, null, commentPreviewSize + 1);
+        CommentSliceRes comments = CommentSliceRes.of(fetched, commentPreviewSize);
+
+        return PostDetail.of(board, imageUrls, comments.getContent(), comments.getNextCursor());
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회마다 BOARD_STATS 행을 UPDATE 하면 인기 게시글이 한 행의 락에서 직렬화된다
+ * - 조회수는 게시글별로 메모리에 모았다가 board.view-count.flush-interval 마다 한 번에 반영
+ * - 게시글별 LongAdder 에 누적 (인기 게시글도 맵 락 없이 셀 단위로 분산되어 증가)
+ * - 반영 시 sumThenReset 으로 꺼내고, 한 주기 동안 조회가 없던 항목만 제거한다
+ *   (제거 직전/직후에 들어온 조회수는 flush 와 increment 양쪽에서 다시 확인해 옮기므로 유실되지 않는다)
+ * - 서버 장애 시 최대 flush 주기만큼의 조회수가 유실될 수 있다 (종료 시에는 flush)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final BoardStatsRepository boardStatsRepository;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (응답 보정용)
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 모인 조회수를 한 번의 multi-row UPDATE로 반영
+     * - 게시글별로 sumThenReset 해서 꺼내므로 꺼낸 뒤 들어온 조회수는 다음 주기에 반영된다
+     * - 이번 주기에 조회가 없던 항목은 제거 (제거 후 남은 값이 있으면 이번 반영에 포함)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pending.remove(postId, adder)) {
+                // 0 을 확인한 뒤 제거하기 전에 들어온 조회수
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                deltas.merge(postId, delta, Long::sum);
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            boardStatsRepository.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 버퍼에 되돌림
+            log.error("조회수 반영 실패: posts={}", deltas.size(), e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.add(delta);
+        // flush 가 유휴 항목으로 제거한 adder 에 더했다면 남은 값을 현재 항목으로 옮긴다
+        // (셀 단위 getAndSet 이라 flush 의 재확인과 겹쳐도 한쪽만 가져간다)
+        if (pending.get(postId) != adder) {
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                add(postId, late);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,22 +2,32 @@ package com.springboot.project.community.service.comment;
 
 import com.springboot.project.community.dto.comment.*;
 import com.springboot.project.community.entity.*;
+import com.springboot.project.community.exception.ForbiddenException;
+import com.springboot.project.community.exception.NotFoundException;
 import com.springboot.project.community.repository.*;
+import com.springboot.project.community.service.board.BoardStatsCounter;
+import com.springboot.project.community.service.board.PostChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    /** 한 번에 조회할 수 있는 최대 댓글 수 */
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
-    private final BoardStatsRepository boardStatsRepository;
+    private final BoardStatsCounter boardStatsCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public CommentRes add(Long userId, Long postId, CommentCreateReq req) {
@@ -34,51 +44,42 @@ public class CommentService {
                 .build();
         commentRepository.save(comment);
 
-        // BoardStats가 없으면 생성
-        if (!boardStatsRepository.findById(board.getPostId()).isPresent()) {
-            BoardStats newStats = BoardStats.builder()
-                    .postId(board.getPostId())
-                    .board(board)  // Board 엔티티 설정 (필수)
-                    .likeCount(0L)
-                    .commentCount(0L)
-                    .viewCount(0L)
-                    .build();
-            boardStatsRepository.save(newStats);
-        }
-
-        // 벌크 업데이트로 댓글 수 증가 (동시성 안전)
-        boardStatsRepository.incrementCommentCount(board.getPostId());
+        // 댓글 수 증가 (통계 샤드에 누적, 통계 행이 없던 게시글은 합산 시 생성)
+        boardStatsCounter.incrementCommentCount(board.getPostId());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         if (comment.getAuthor() != null) {
-            comment.getAuthor().getImage();
+            comment.getAuthor().getNickname();
         }
 
         return CommentRes.from(comment);
     }
 
+    /**
+     * 댓글 수정
+     * - 응답용 프로젝션 1회로 404(없음/게시글 삭제됨) / 403(본인 아님) 판단 (사용자/게시글/댓글 엔티티를 읽지 않음)
+     * - 내용이 그대로면 UPDATE 와 캐시 무효화 이벤트를 생략, 바뀌었으면 작성자 조건을 건 UPDATE 1문장
+     */
     @Transactional
     public CommentRes update(Long userId, Long postId, Long commentId, CommentUpdateReq req) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
-
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다. postId=" + postId));
-
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다. commentId=" + commentId));
-
-        if (!comment.getAuthor().getUserId().equals(userId)) {
-            throw new RuntimeException("본인이 작성한 댓글만 수정할 수 있습니다.");
+        CommentRes res = commentRepository.findCommentRes(commentId, postId)
+                .orElseThrow(() -> new NotFoundException("댓글이 존재하지 않습니다. commentId=" + commentId));
+        if (!res.getUserId().equals(userId)) {
+            throw new ForbiddenException("본인이 작성한 댓글만 수정할 수 있습니다.");
+        }
+        if (req.getContents().equals(res.getContent())) {
+            return res;
         }
 
-        comment.setContents(req.getContents());
-        commentRepository.save(comment);
-
-        if (comment.getAuthor() != null) {
-            comment.getAuthor().getImage();
+        int updated = commentRepository.updateContents(commentId, postId, userId, req.getContents(), LocalDateTime.now());
+        if (updated == 0) {
+            // 읽은 뒤 댓글/게시글이 삭제된 경우
+            throw new NotFoundException("댓글이 존재하지 않습니다. commentId=" + commentId);
         }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
-        return CommentRes.from(comment);
+        res.setContent(req.getContents());
+        return res;
     }
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -96,10 +97,12 @@ public class CommentService {
             throw new RuntimeException("본인이 작성한 댓글만 삭제할 수 있습니다.");
         }
 
-        commentRepository.delete(comment);
+        // 삭제 표시만 (실제 행은 BoardPurger 가 정리)
+        comment.setDeletedAt(LocalDateTime.now());
 
-        // 벌크 업데이트로 댓글 수 감소 (동시성 안전, 0 이하로 내려가지 않음)
-        boardStatsRepository.decrementCommentCount(postId);
+        // 댓글 수 감소 (통계 샤드에 누적, 합산 시 0 아래로 내려가지 않음)
+        boardStatsCounter.decrementCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         return CommentDeleteRes.builder()
                 .commentId(commentId)
@@ -109,16 +112,15 @@ public class CommentService {
                 .build();
     }
 
+    /**
+     * 댓글 커서 조회
+     * - after 가 비어 있으면 첫 페이지, 이후 응답의 nextCursor 를 after 로 전달
+     */
     @Transactional(readOnly = true)
-    public List<CommentRes> findByPost(Long postId) {
-        return commentRepository.findByBoard_PostIdOrderByCreatedAtAsc(postId)
-                .stream()
-                .peek(comment -> {
-                    if (comment.getAuthor() != null) {
-                        comment.getAuthor().getImage();
-                    }
-                })
-                .map(CommentRes::from)
-                .toList();
+    public CommentSliceRes findByPost(Long postId, String after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CommentCursor cursor = (after == null || after.isBlank()) ? null : CommentCursor.decode(after);
+        List<CommentRes> fetched = commentRepository.findCommentPage(postId, cursor, pageSize + 1);
+        return CommentSliceRes.of(fetched, pageSize);
     }
 }
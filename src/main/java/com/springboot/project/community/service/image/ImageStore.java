@@ -0,0 +1,28 @@
+package com.springboot.project.community.service.image;
+
+import org.springframework.core.io.Resource;
+
+import java.util.Optional;
+
+/**
+ * 이미지 저장소
+ * - 키는 콘텐츠 해시이므로 같은 키의 내용은 절대 바뀌지 않는다 (덮어쓰기 불필요)
+ * - 기본 구현은 로컬 파일시스템(LocalImageStore), 필요 시 S3 등으로 교체
+ */
+public interface ImageStore {
+
+    /**
+     * 이미지 저장
+     */
+    void put(String key, byte[] content);
+
+    /**
+     * 이미지 조회 (없으면 empty)
+     */
+    Optional<Resource> get(String key);
+
+    /**
+     * 저장 여부 확인
+     */
+    boolean exists(String key);
+}
@@ -0,0 +1,66 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.util.ImageUrlUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 로컬 파일시스템 이미지 저장소
+ * - {base}/{hash 앞 2글자}/{hash} 구조로 저장 (한 디렉토리에 파일이 몰리지 않도록)
+ * - 임시 파일에 쓴 뒤 rename 하므로 읽는 쪽에서 쓰다 만 파일을 보지 않는다
+ */
+@Slf4j
+@Component
+public class LocalImageStore implements ImageStore {
+
+    private final Path baseDir;
+
+    public LocalImageStore(@Value("${image.store.local.path:./data/images}") String basePath) {
+        this.baseDir = Paths.get(basePath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, byte[] content) {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("이미지 저장 실패: key={}", key, e);
+            throw new RuntimeException("이미지 저장에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        if (!ImageUrlUtil.isKey(key)) {
+            throw new IllegalArgumentException("잘못된 이미지 키입니다.");
+        }
+        return baseDir.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.entity.UserProfileImage;
+import com.springboot.project.community.repository.UserProfileImageRepository;
+import com.springboot.project.community.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레거시 프로필 이미지 마이그레이션
+ * - USERS.image(LONGTEXT Base64)를 이미지 저장소로 옮기고 image_key만 남긴다
+ * - image.store.migrate-legacy=true 일 때 기동 시 1회 실행 (여러 번 실행해도 결과 동일)
+ * - user_id 순으로 CHUNK_SIZE 건씩 별도 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.store.migrate-legacy", havingValue = "true")
+public class ProfileImageMigrator implements ApplicationRunner {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserProfileImageRepository userProfileImageRepository;
+    private final ProfileImageService profileImageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AtomicInteger migrated = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long afterId = lastId;
+            lastId = transactionTemplate.execute(status -> migrateChunk(afterId, migrated, skipped));
+        }
+
+        log.info("레거시 프로필 이미지 마이그레이션 완료: migrated={}, skipped={}", migrated.get(), skipped.get());
+    }
+
+    // 처리한 마지막 user_id 반환 (더 없으면 null)
+    private Long migrateChunk(Long afterId, AtomicInteger migrated, AtomicInteger skipped) {
+        List<UserProfileImage> images = userProfileImageRepository.findLegacyImages(afterId, PageRequest.of(0, CHUNK_SIZE));
+        if (images.isEmpty()) {
+            return null;
+        }
+
+        for (UserProfileImage image : images) {
+            try {
+                userRepository.updateImageKey(image.getUserId(), profileImageService.store(image.getImage()));
+                image.setImage(null);
+                migrated.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // 변환할 수 없는 값은 그대로 두고 건너뜀
+                log.warn("프로필 이미지 변환 실패: userId={}, reason={}", image.getUserId(), e.getMessage());
+                skipped.incrementAndGet();
+            }
+        }
+        return images.get(images.size() - 1).getUserId();
+    }
+}
@@ -0,0 +1,124 @@
+package com.springboot.project.community.service.image;
+
+import com.springboot.project.community.util.ImageUrlUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 서비스
+ * - Base64 / data URL 로 올라온 이미지를 디코딩해서 콘텐츠 해시(SHA-256)를 키로 저장
+ * - DB(USERS.image_key)에는 64자 키만 저장하고, 응답에는 /images/{hash} URL만 내려준다
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileImageService {
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_SEPARATOR = ";base64,";
+    private static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    private final ImageStore imageStore;
+
+    @Value("${image.store.max-bytes:5242880}")
+    private long maxBytes;
+
+    /**
+     * 프로필 이미지 저장
+     * - 이미 저장된 이미지 URL(/images/{hash})이 다시 오면 그대로 키만 반환
+     * @return 이미지 키 (SHA-256 hex)
+     */
+    public String store(String image) {
+        String existingKey = ImageUrlUtil.toKey(image);
+        if (existingKey != null && imageStore.exists(existingKey)) {
+            return existingKey;
+        }
+
+        byte[] content = decode(image);
+        if (content.length > maxBytes) {
+            throw new IllegalArgumentException("프로필 이미지 용량이 너무 큽니다. (최대 " + maxBytes + " bytes)");
+        }
+        if (detectContentType(content) == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        String key = sha256Hex(content);
+        if (!imageStore.exists(key)) {
+            imageStore.put(key, content);
+        }
+        return key;
+    }
+
+    /**
+     * 이미지 조회
+     */
+    public Optional<Resource> find(String key) {
+        if (!ImageUrlUtil.isKey(key)) {
+            return Optional.empty();
+        }
+        return imageStore.get(key);
+    }
+
+    /**
+     * 파일 앞부분(매직 넘버)으로 Content-Type 판별
+     */
+    public MediaType contentTypeOf(Resource image) {
+        try (InputStream in = image.getInputStream()) {
+            MediaType type = detectContentType(in.readNBytes(12));
+            return type != null ? type : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    // Base64 또는 data URL(data:image/png;base64,...) 디코딩
+    private byte[] decode(String image) {
+        String base64 = image;
+        int separator = image.indexOf(BASE64_SEPARATOR);
+        if (image.startsWith(DATA_URL_PREFIX) && separator > 0) {
+            base64 = image.substring(separator + BASE64_SEPARATOR.length());
+        }
+        try {
+            return Base64.getMimeDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("프로필 이미지는 Base64 형식이어야 합니다.");
+        }
+    }
+
+    private static MediaType detectContentType(byte[] head) {
+        if (startsWith(head, 0x89, 'P', 'N', 'G')) return MediaType.IMAGE_PNG;
+        if (startsWith(head, 0xFF, 0xD8, 0xFF)) return MediaType.IMAGE_JPEG;
+        if (startsWith(head, 'G', 'I', 'F', '8')) return MediaType.IMAGE_GIF;
+        if (head.length >= 12 && startsWith(head, 'R', 'I', 'F', 'F')
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return IMAGE_WEBP;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int... prefix) {
+        if (data.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if ((data[i] & 0xFF) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.project.community.service.like;
+
+/**
+ * 사용자의 좋아요 상태가 바뀌었음을 알리는 이벤트
+ * - LikedPostCache 에서 해당 사용자 항목을 제거할 때 사용
+ */
+public record LikeChangedEvent(Long userId, Long postId) {
+}
@@ -0,0 +1,173 @@
+package com.springboot.project.community.service.like;
+
+import com.springboot.project.community.dto.like.LikeToggleRes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좋아요 요청 합치기 (사용자 + 게시글 단위)
+ * - 구간의 첫 요청은 바로 반영하고(대기 없음), 그 뒤 like.coalesce.window 동안 들어온 요청만 모아서
+ *   최종 상태를 LikeService에 한 번 반영 (더블 클릭, 재시도로 생기는 연속 쓰기 제거. 뒤따른 토글 두 번은 쓰기 없음)
+ * - 같은 키의 반영은 항상 하나씩 순서대로 실행된다 (앞 반영이 끝난 뒤 다음 구간을 예약)
+ * - 뒤따른 요청들은 모두 같은 결과(최종 상태)를 받는다
+ * - window 가 0 이면 합치지 않고 바로 반영
+ */
+@Slf4j
+@Component
+public class LikeRequestCoalescer {
+
+    public enum Op { LIKE, UNLIKE, TOGGLE }
+
+    private record Key(Long userId, Long postId) {
+    }
+
+    /** 구간 내 요청 누적 (ConcurrentHashMap.compute 안에서만 수정) */
+    private static final class Pending {
+        private Boolean target;   // 마지막 LIKE/UNLIKE (없으면 null)
+        private boolean flip;     // 그 이후 TOGGLE 이 홀수 번인지
+        private final CompletableFuture<LikeToggleRes> result = new CompletableFuture<>();
+
+        void add(Op op) {
+            switch (op) {
+                case LIKE -> { target = true; flip = false; }
+                case UNLIKE -> { target = false; flip = false; }
+                case TOGGLE -> flip = !flip;
+            }
+        }
+    }
+
+    /** 키별 진행 상태 - 맵에 있으면 반영이 진행 중이거나 다음 구간이 예약된 상태 */
+    private static final class Slot {
+        private Pending trailing; // 진행 중에 들어와 다음 구간에 반영할 요청 (없으면 null)
+    }
+
+    private final LikeService likeService;
+    private final long windowMillis;
+    private final long timeoutMillis;
+    private final ConcurrentHashMap<Key, Slot> slots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public LikeRequestCoalescer(LikeService likeService,
+                                @Value("${like.coalesce.window:200}") long windowMillis,
+                                @Value("${like.coalesce.timeout:5000}") long timeoutMillis,
+                                @Value("${like.coalesce.threads:2}") int threads) {
+        this.likeService = likeService;
+        this.windowMillis = windowMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = Executors.newScheduledThreadPool(threads, new CustomizableThreadFactory("like-coalescer-"));
+    }
+
+    public LikeToggleRes submit(Long userId, Long postId, Op op) {
+        if (windowMillis <= 0) {
+            return applyOne(userId, postId, op);
+        }
+
+        Key key = new Key(userId, postId);
+        Pending[] joined = new Pending[1];
+        slots.compute(key, (k, slot) -> {
+            if (slot == null) {
+                return new Slot(); // 첫 요청: 호출 스레드에서 바로 반영
+            }
+            if (slot.trailing == null) {
+                slot.trailing = new Pending();
+            }
+            slot.trailing.add(op);
+            joined[0] = slot.trailing;
+            return slot;
+        });
+        if (joined[0] != null) {
+            return await(joined[0].result);
+        }
+
+        try {
+            return applyOne(userId, postId, op);
+        } finally {
+            // 반영이 끝난 뒤에 다음 구간 예약 → 같은 키의 반영이 겹치지 않는다
+            scheduleDrain(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        // 예약된 반영이 끝나지 않았으면 남은 요청을 직접 반영
+        slots.keySet().forEach(this::drain);
+    }
+
+    private void scheduleDrain(Key key) {
+        try {
+            scheduler.schedule(() -> drain(key), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            drain(key); // 종료 중
+        }
+    }
+
+    /**
+     * 구간 동안 모인 요청 반영
+     * - 모인 요청이 없으면 키를 제거 (이후 요청은 다시 바로 반영)
+     * - 있으면 반영 후 다음 구간 예약 (그 사이에 들어온 요청은 새 trailing 으로 모인다)
+     */
+    private void drain(Key key) {
+        Pending[] taken = new Pending[1];
+        slots.computeIfPresent(key, (k, slot) -> {
+            if (slot.trailing == null) {
+                return null;
+            }
+            taken[0] = slot.trailing;
+            slot.trailing = null;
+            return slot;
+        });
+        Pending entry = taken[0];
+        if (entry == null) {
+            return;
+        }
+        try {
+            entry.result.complete(apply(key.userId(), key.postId(), entry.target, entry.flip));
+        } catch (RuntimeException e) {
+            entry.result.completeExceptionally(e);
+        } finally {
+            scheduleDrain(key);
+        }
+    }
+
+    private LikeToggleRes applyOne(Long userId, Long postId, Op op) {
+        return apply(userId, postId, op == Op.TOGGLE ? null : op == Op.LIKE, op == Op.TOGGLE);
+    }
+
+    private LikeToggleRes apply(Long userId, Long postId, Boolean target, boolean flip) {
+        if (target != null) {
+            return likeService.setLiked(userId, postId, target ^ flip);
+        }
+        return flip
+                ? likeService.toggle(userId, postId)
+                : likeService.getLike(userId, postId); // 토글이 짝수 번 → 변경 없음
+    }
+
+    private LikeToggleRes await(CompletableFuture<LikeToggleRes> result) {
+        try {
+            return result.get(windowMillis + timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("좋아요 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("좋아요 처리 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좋아요 처리가 중단되었습니다.", e);
+        }
+    }
+}
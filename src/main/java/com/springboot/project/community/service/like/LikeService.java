@@ -1,100 +1,101 @@
 package com.springboot.project.community.service.like;
 
+import com.springboot.project.community.dto.board.BoardCounts;
 import com.springboot.project.community.dto.like.LikeToggleRes;
-import com.springboot.project.community.entity.Board;
-import com.springboot.project.community.entity.BoardLike;
-import com.springboot.project.community.entity.BoardLikeId;
-import com.springboot.project.community.entity.BoardStats;
-import com.springboot.project.community.entity.User;
 import com.springboot.project.community.repository.BoardLikeRepository;
 import com.springboot.project.community.repository.BoardRepository;
 import com.springboot.project.community.repository.BoardStatsRepository;
-import com.springboot.project.community.repository.UserRepository;
+import com.springboot.project.community.service.board.BoardStatsCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 
 /**
- * 좋아요 토글 서비스
- * - Builder 필드명/boolean 게터 문제를 피하기 위해 setter 기반으로 안전하게 작성
+ * 좋아요 서비스
+ * - 엔티티를 읽지 않고 SQL로만 처리 (토글: upsert 토글 → 샤드 카운터 ±1 → 결과 조회)
+ * - BOARD_LIKE 행 잠금이 커밋까지 유지되므로 같은 사용자의 연속 요청도 순서대로 반영된다
+ * - 좋아요 수는 BOARD_STATS 대신 임의의 통계 샤드 행에 쌓으므로 인기 게시글에서도 한 행에 몰리지 않는다
+ * - 컨트롤러는 LikeRequestCoalescer를 거쳐 호출한다 (짧은 시간 내 연속 요청은 최종 상태 한 번만 반영)
  */
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
-    private final BoardRepository boardRepository;
-    private final UserRepository userRepository;
     private final BoardLikeRepository boardLikeRepository;
+    private final BoardRepository boardRepository;
     private final BoardStatsRepository boardStatsRepository;
+    private final BoardStatsCounter boardStatsCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public LikeToggleRes toggle(Long userId, Long postId) {
-        // 유저/게시글 검증
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        Board board = boardRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        // 좋아요 행 생성 또는 토글 (게시글이 없으면 0행, 생성 1행, 토글 2행)
+        int affected = boardLikeRepository.upsertToggle(userId, postId);
+        if (affected == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
 
-        // 복합키 구성
-        BoardLikeId likeId = new BoardLikeId(userId, postId);
+        onChanged(userId, postId);
+        return currentState(userId, postId);
+    }
 
-        // 기존 데이터 조회
-        BoardLike existing = boardLikeRepository.findById(likeId).orElse(null);
-        boolean liked;
+    /**
+     * 좋아요 설정/해제 (멱등)
+     * - 이미 원하는 상태면 BOARD_LIKE / 통계에 쓰지 않는다 (재시도, 중복 클릭에 안전)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LikeToggleRes setLiked(Long userId, Long postId, boolean liked) {
+        boolean changed = liked
+                ? boardLikeRepository.restore(userId, postId) > 0
+                        || boardLikeRepository.insertIfAbsent(userId, postId) > 0
+                : boardLikeRepository.softDelete(userId, postId) > 0;
 
-        if (existing == null) {
-            // 새 좋아요 생성
-            BoardLike newLike = new BoardLike();
-            newLike.setLikeId(likeId);
-            newLike.setUser(user);
-            newLike.setBoard(board);
-            newLike.setDeleted(false);
-            boardLikeRepository.save(newLike);
-            liked = true;
-        } else {
-            // 기존 좋아요 상태 확인
-            boolean wasDeleted = existing.isDeleted();
-            // 토글
-            existing.setDeleted(!wasDeleted);
-            boardLikeRepository.save(existing);
-            liked = !existing.isDeleted();
+        if (changed) {
+            onChanged(userId, postId);
         }
+        return currentState(userId, postId);
+    }
 
-        // BoardStats 조회 또는 생성
-        BoardStats stats = boardStatsRepository.findById(postId)
-                .orElseGet(() -> {
-                    BoardStats newStats = BoardStats.builder()
-                            .postId(postId)
-                            .board(board)  // Board 엔티티 설정 (필수)
-                            .viewCount(0L)
-                            .likeCount(0L)
-                            .commentCount(0L)
-                            .build();
-                    return boardStatsRepository.save(newStats);
-                });
+    /**
+     * 현재 좋아요 상태 (쓰기 없음)
+     */
+    @Transactional(readOnly = true)
+    public LikeToggleRes getLike(Long userId, Long postId) {
+        return currentState(userId, postId);
+    }
 
-        // 벌크 업데이트로 좋아요 수 증가/감소 (동시성 안전)
-        int updated;
-        if (liked) {
-            // 좋아요 증가
-            updated = boardStatsRepository.incrementLikeCount(postId);
-            if (updated > 0) {
-                stats.setLikeCount(stats.getLikeCount() + 1);
-            }
-        } else {
-            // 좋아요 감소
-            updated = boardStatsRepository.decrementLikeCount(postId);
-            if (updated > 0) {
-                stats.setLikeCount(Math.max(stats.getLikeCount() - 1, 0L));
-            }
-        }
+    // 바뀐 상태에 따라 좋아요 수 ±1 (BoardStatsCompactor가 BOARD_STATS에 합산)
+    private void onChanged(Long userId, Long postId) {
+        boardStatsCounter.applyLikeToggle(userId, postId);
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, postId));
+    }
 
-        // 응답 (DTO가 Long-count면 변환)
-        return LikeToggleRes.builder()
-                .postId(postId)
-                .likeCount(stats.getLikeCount())
-                .liked(liked)
-                .build();
+    private LikeToggleRes currentState(Long userId, Long postId) {
+        return boardLikeRepository.findLikeState(userId, postId)
+                .map(state -> LikeToggleRes.builder()
+                        .postId(postId)
+                        .likeCount(state.getLikeCount())
+                        .liked(!state.getDeleted())
+                        .build())
+                // 좋아요를 누른 적이 없는 경우
+                .orElseGet(() -> LikeToggleRes.builder()
+                        .postId(postId)
+                        .likeCount(likeCountWithoutRow(postId))
+                        .liked(false)
+                        .build());
+    }
+
+    private Long likeCountWithoutRow(Long postId) {
+        return boardStatsRepository.findCounts(postId)
+                .map(BoardCounts::getLikeCount)
+                .orElseGet(() -> {
+                    // 통계 행이 없던 이전 게시글
+                    if (!boardRepository.existsById(postId)) {
+                        throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+                    }
+                    return 0L;
+                });
     }
 }
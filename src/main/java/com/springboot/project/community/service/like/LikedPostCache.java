@@ -0,0 +1,123 @@
+package com.springboot.project.community.service.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.springboot.project.community.repository.BoardLikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * "내가 좋아요 한 게시글" 조회 (사용자별 캐시)
+ * - 사용자마다 이미 확인한 게시글 id 와 그 중 좋아요 한 id 를 정렬된 long[] 로 보관
+ * - 목록/상세 렌더링 시 아직 확인하지 않은 게시글만 IN 쿼리 한 번으로 조회 (확인된 것만 있으면 쿼리 없음)
+ * - 좋아요 토글 커밋 후 해당 사용자 항목을 빈 스냅샷으로 교체 (LikeChangedEvent)
+ * - DB 조회는 캐시 맵 잠금 밖에서 하고, 조회 전 스냅샷이 그대로일 때만 결과를 반영
+ *   (조회 중 무효화되었으면 이번 결과는 응답에만 쓰고 캐시에 넣지 않음)
+ */
+@Component
+public class LikedPostCache {
+
+    /** 사용자별 확인 결과 (불변, 교체만 함) */
+    private record Snapshot(long[] resolved, long[] liked) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0]);
+
+        static Snapshot empty() {
+            return new Snapshot(new long[0], new long[0]);
+        }
+
+        boolean isLiked(long postId) {
+            return Arrays.binarySearch(liked, postId) >= 0;
+        }
+
+        long[] unresolved(long[] postIds) {
+            return Arrays.stream(postIds)
+                    .filter(postId -> Arrays.binarySearch(resolved, postId) < 0)
+                    .toArray();
+        }
+
+        Snapshot merge(long[] newlyResolved, List<Long> newlyLiked) {
+            return new Snapshot(
+                    union(resolved, newlyResolved),
+                    union(liked, newlyLiked.stream().mapToLong(Long::longValue).toArray()));
+        }
+
+        private static long[] union(long[] a, long[] b) {
+            return LongStream.concat(Arrays.stream(a), Arrays.stream(b)).sorted().distinct().toArray();
+        }
+    }
+
+    private final BoardLikeRepository boardLikeRepository;
+    private final Cache<Long, Snapshot> cache;
+    private final int maxPostsPerUser;
+
+    public LikedPostCache(BoardLikeRepository boardLikeRepository,
+                          @Value("${like.liked-cache.max-users:10000}") long maxUsers,
+                          @Value("${like.liked-cache.max-posts-per-user:2000}") int maxPostsPerUser,
+                          @Value("${like.liked-cache.expire-after-access:600000}") long expireAfterAccessMillis) {
+        this.boardLikeRepository = boardLikeRepository;
+        this.maxPostsPerUser = maxPostsPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+    }
+
+    /**
+     * postIds 중 userId 가 좋아요 한 게시글 id
+     * - 비로그인(userId == null)이면 빈 Set
+     */
+    public Set<Long> findLiked(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        long[] requested = postIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+
+        Snapshot current = cache.getIfPresent(userId);
+        Snapshot snapshot = resolve(userId, current, requested);
+        if (snapshot != current) {
+            // 조회하는 동안 바뀌지 않았을 때만 교체 (맵 잠금 구간에서는 DB 조회를 하지 않음)
+            cache.asMap().compute(userId, (id, latest) -> latest == current ? snapshot : latest);
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (long postId : requested) {
+            if (snapshot.isLiked(postId)) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        // 제거 대신 새 인스턴스로 교체해야 진행 중인 조회가 무효화 여부를 알 수 있다
+        cache.put(event.userId(), Snapshot.empty());
+    }
+
+    private Snapshot resolve(Long userId, Snapshot current, long[] requested) {
+        Snapshot base = current != null ? current : Snapshot.EMPTY;
+        long[] missing = base.unresolved(requested);
+        if (missing.length == 0) {
+            return base;
+        }
+
+        List<Long> liked = boardLikeRepository.findLikedPostIds(userId,
+                Arrays.stream(missing).boxed().toList());
+
+        // 너무 커지면 이번에 조회한 것부터 다시 쌓는다
+        if (base.resolved().length + missing.length > maxPostsPerUser) {
+            base = Snapshot.EMPTY;
+        }
+        return base.merge(missing, liked);
+    }
+}
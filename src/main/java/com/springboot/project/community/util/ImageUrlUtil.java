@@ -0,0 +1,33 @@
+package com.springboot.project.community.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 URL 유틸
+ * - 이미지는 콘텐츠 해시(SHA-256 hex)를 키로 저장되고 /images/{hash} 로 제공된다.
+ */
+public class ImageUrlUtil {
+
+    public static final String PATH_PREFIX = "/images/";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    // 이미지 키 → 응답용 URL
+    public static String toUrl(String key) {
+        return key != null ? PATH_PREFIX + key : null;
+    }
+
+    // 이미지 URL(/images/{hash}, 절대 URL 포함) → 키 (형식이 아니면 null)
+    public static String toKey(String url) {
+        if (url == null) return null;
+        int idx = url.lastIndexOf(PATH_PREFIX);
+        if (idx < 0) return null;
+        String key = url.substring(idx + PATH_PREFIX.length());
+        return isKey(key) ? key : null;
+    }
+
+    // 이미지 키 형식 검증 (경로 조작 방지)
+    public static boolean isKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+}
@@ -0,0 +1,10 @@
+-- 게시글 통계 샤드 (좋아요/댓글 수 변경분을 게시글당 여러 행에 나눠 누적, BoardStatsCompactor 가 BOARD_STATS 에 합산)
+-- 합산 후 바로 지워지는 짧은 수명의 행이라 BOARD FK 는 두지 않는다 (정리된 게시글의 샤드는 합산기가 삭제)
+CREATE TABLE IF NOT EXISTS BOARD_STATS_SHARD (
+    post_id       BIGINT UNSIGNED NOT NULL,
+    shard_no      INT             NOT NULL,
+    like_delta    BIGINT          NOT NULL DEFAULT 0,
+    view_delta    BIGINT          NOT NULL DEFAULT 0,
+    comment_delta BIGINT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (post_id, shard_no)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,2 @@
+-- 게시글별 좋아요 수 집계 (통계 재계산: post_id 구간별 GROUP BY, is_deleted = 0)
+CREATE INDEX idx_like_post_deleted ON BOARD_LIKE (post_id, is_deleted);
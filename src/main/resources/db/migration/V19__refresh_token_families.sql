@@ -0,0 +1,17 @@
+-- Refresh Token 계열(family) 저장소
+-- - 기존 refresh_tokens(id PK, token 원문, user_id UNIQUE)는 토큰 해시/계열 구조로 옮길 수 없다
+--   (기존 토큰에는 fid 클레임이 없어 재발급 대상 행을 찾을 수 없음) → 테이블을 새로 만든다
+-- - 적용 시점에 발급되어 있던 Refresh Token 은 모두 무효가 되므로, Access Token 만료 후 다시 로그인해야 한다
+DROP TABLE IF EXISTS refresh_tokens;
+
+CREATE TABLE refresh_tokens (
+    family_id  VARCHAR(36) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked    TINYINT(1)  NOT NULL DEFAULT 0,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (family_id),
+    INDEX idx_refresh_user (user_id),
+    INDEX idx_refresh_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,9 @@
+-- 로그아웃으로 폐기된 Access Token (jti), 토큰 만료 후 AccessTokenRevocationList 가 정리
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    token_id   VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (token_id),
+    INDEX idx_revoked_expires (expires_at),
+    INDEX idx_revoked_created (created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,8 @@
+-- 게시글/댓글 삭제 표시 (deleted_at 이 NULL 이 아니면 조회에서 제외, BoardPurger 가 실제 행 정리)
+ALTER TABLE BOARD
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ADD INDEX idx_board_deleted (deleted_at);
+
+ALTER TABLE COMMENT
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    ADD INDEX idx_comment_deleted (deleted_at);
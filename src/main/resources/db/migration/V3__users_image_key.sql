@@ -0,0 +1,4 @@
+-- 프로필 이미지 저장소 키 (콘텐츠 SHA-256 hex)
+-- 기존 USERS.image(Base64)는 image.store.migrate-legacy=true 로 기동하면 image_key 로 옮겨진다
+ALTER TABLE USERS
+    ADD COLUMN image_key VARCHAR(64) NULL AFTER image;
@@ -0,0 +1,4 @@
+-- 댓글 keyset 조회 (post_id, created_at, comment_id)
+-- 새 인덱스가 post_id 로 시작하므로 FK(post_id) 인덱스 역할도 대신한다 → 먼저 만들고 기존 인덱스 제거
+CREATE INDEX idx_comment_board_created ON COMMENT (post_id, created_at, comment_id);
+DROP INDEX idx_comment_board ON COMMENT;
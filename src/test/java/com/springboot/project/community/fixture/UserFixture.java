@@ -0,0 +1,25 @@
+package com.springboot.project.community.fixture;
+
+import com.springboot.project.community.entity.User;
+
+import java.util.UUID;
+
+/**
+ * 테스트용 사용자 생성
+ * - 이메일/닉네임이 unique 라서 호출마다 임의 접미사를 붙인다 (저장은 호출하는 쪽에서)
+ */
+public final class UserFixture {
+
+    private UserFixture() {
+    }
+
+    public static User createUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .email(suffix + "@test.com")
+                .password("password")
+                .nickname("user-" + suffix)
+                .useYn(false)
+                .build();
+    }
+}
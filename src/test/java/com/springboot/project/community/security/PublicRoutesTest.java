@@ -0,0 +1,33 @@
+package com.springboot.project.community.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRoutesTest {
+
+    @Test
+    void authEndpointsMatchExactly() {
+        assertThat(PublicRoutes.AUTH.matches("/api/auth")).isTrue();
+        assertThat(PublicRoutes.AUTH.matches("/api/auth/login")).isTrue();
+        assertThat(PublicRoutes.AUTH.matches("/api/auth/check-email")).isTrue();
+        assertThat(PublicRoutes.AUTH.matches("/api/auth/me")).isFalse();
+        assertThat(PublicRoutes.AUTH.matches("/api/auth/logout")).isFalse();
+    }
+
+    @Test
+    void boardReadRoutesDoNotCoverLikes() {
+        assertThat(PublicRoutes.BOARD_READ.matches("/api/boards")).isTrue();
+        assertThat(PublicRoutes.BOARD_READ.matches("/api/boards/1")).isTrue();
+        assertThat(PublicRoutes.BOARD_READ.matches("/api/boards/1/comments")).isTrue();
+        assertThat(PublicRoutes.BOARD_READ.matches("/api/boards/1/likes")).isFalse();
+    }
+
+    @Test
+    void staticResourcesMatchNestedPaths() {
+        assertThat(PublicRoutes.STATIC_RESOURCES.matches("/css/app.css")).isTrue();
+        assertThat(PublicRoutes.STATIC_RESOURCES.matches("/js/vendor/app.js")).isTrue();
+        assertThat(PublicRoutes.STATIC_RESOURCES.matches("/favicon.ico")).isTrue();
+        assertThat(PublicRoutes.STATIC_RESOURCES.matches("/api/boards")).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.springboot.project.community.security.jwt;
+
+import com.springboot.project.community.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class AccessTokenRevocationListTest {
+
+    @Autowired
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void revokedTokenIsRejectedAndOthersPass() {
+        ParsedToken revoked = parse(jwtTokenProvider.createAccessToken(1L, null));
+        ParsedToken other = parse(jwtTokenProvider.createAccessToken(1L, null));
+
+        accessTokenRevocationList.revoke(revoked);
+
+        assertThat(accessTokenRevocationList.isRevoked(revoked)).isTrue();
+        assertThat(accessTokenRevocationList.isRevoked(other)).isFalse();
+    }
+
+    /**
+     * 재구성 후에도 DB 에 남은 폐기 목록이 유지된다 (기동 시 재구성과 같은 경로)
+     */
+    @Test
+    void rebuildKeepsPersistedRevocations() {
+        ParsedToken revoked = parse(jwtTokenProvider.createAccessToken(1L, null));
+        accessTokenRevocationList.revoke(revoked);
+
+        accessTokenRevocationList.scheduledRebuild();
+
+        assertThat(accessTokenRevocationList.isRevoked(revoked)).isTrue();
+    }
+
+    /**
+     * 기동 시 필터 구성이 실패해도 예외를 던지지 않고, 구성 전까지는 DB 로 확인한다
+     */
+    @Test
+    void failedInitFallsBackToDatabase() {
+        RevokedAccessTokenRepository repository = mock(RevokedAccessTokenRepository.class);
+        when(repository.findActiveTokenIds(any())).thenThrow(new IllegalStateException("table missing"));
+        when(repository.existsByTokenIdAndExpiresAtAfter(eq("revoked"), any())).thenReturn(true);
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(repository, 1_000, 0.01);
+
+        revocationList.init();
+
+        assertThat(revocationList.isRevoked(token("revoked"))).isTrue();
+        assertThat(revocationList.isRevoked(token("other"))).isFalse();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        String[] ids = new String[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            filter.put(ids[i]);
+        }
+
+        for (String id : ids) {
+            assertThat(filter.mightContain(id)).isTrue();
+        }
+    }
+
+    private ParsedToken token(String tokenId) {
+        return new ParsedToken(1L, null, List.of(), "access", Instant.now().plusSeconds(60), tokenId, null);
+    }
+
+    private ParsedToken parse(String token) {
+        return jwtTokenProvider.parse(token).orElseThrow();
+    }
+}
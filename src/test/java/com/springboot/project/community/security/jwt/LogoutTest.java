@@ -0,0 +1,105 @@
+package com.springboot.project.community.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.project.community.dto.auth.UserLoginReq;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.springboot.project.community.fixture.UserFixture.createUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 로그아웃 API 를 거친 토큰 폐기 (필터 체인 포함)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class LogoutTest {
+
+    private static final String PASSWORD = "password1!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        User user = createUser();
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        email = userRepository.save(user).getEmail();
+    }
+
+    /**
+     * 로그아웃한 Access Token 은 만료 전이라도 인증되지 않는다 (401)
+     */
+    @Test
+    void accessTokenIsRejectedAfterLogout() throws Exception {
+        String accessToken = accessTokenOf(login());
+
+        mockMvc.perform(get("/api/auth/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/auth/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * 로그아웃한 Refresh Token 으로는 재발급할 수 없다 (family 폐기)
+     */
+    @Test
+    void refreshFailsAfterLogout() throws Exception {
+        MvcResult login = login();
+        String accessToken = accessTokenOf(login);
+        Cookie refreshToken = login.getResponse().getCookie("refreshToken");
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .cookie(refreshToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/refresh").cookie(refreshToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult login() throws Exception {
+        UserLoginReq req = UserLoginReq.builder()
+                .email(email)
+                .password(PASSWORD)
+                .build();
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private String accessTokenOf(MvcResult login) throws Exception {
+        return objectMapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+}
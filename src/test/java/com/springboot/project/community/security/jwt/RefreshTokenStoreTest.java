@@ -0,0 +1,67 @@
+package com.springboot.project.community.security.jwt;
+
+import com.springboot.project.community.entity.RefreshToken;
+import com.springboot.project.community.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenStoreTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void rotationReplacesStoredHash() {
+        String issued = refreshTokenStore.issue(USER_ID, null);
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(issued);
+
+        RefreshToken row = refreshTokenRepository.findById(familyOf(issued)).orElseThrow();
+        assertThat(rotation.userId()).isEqualTo(USER_ID);
+        assertThat(familyOf(rotation.refreshToken())).isEqualTo(familyOf(issued));
+        assertThat(row.getTokenHash()).isEqualTo(TokenHashes.sha256Hex(rotation.refreshToken()));
+        assertThat(row.isRevoked()).isFalse();
+    }
+
+    /**
+     * 이미 교체된 토큰을 다시 쓰면 family 전체가 폐기되어 최신 토큰도 쓸 수 없다
+     */
+    @Test
+    void reuseRevokesWholeFamily() {
+        String issued = refreshTokenStore.issue(USER_ID, null);
+        String latest = refreshTokenStore.rotate(issued).refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> refreshTokenStore.rotate(latest))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(refreshTokenRepository.findById(familyOf(issued)).orElseThrow().isRevoked()).isTrue();
+    }
+
+    @Test
+    void revokedFamilyCannotRotate() {
+        String issued = refreshTokenStore.issue(USER_ID, null);
+
+        refreshTokenStore.revoke(issued);
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(issued))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String familyOf(String refreshToken) {
+        return jwtTokenProvider.parse(refreshToken).orElseThrow().familyId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.springboot.project.community.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "m0R4q7Y2Q4sH9p2P0s1tH3bD9vM7qP1kA4vL0nM8qQ0rC5yX3fS9eW==";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(SECRET, 900_000L, 604_800_000L));
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, true, 100);
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        String token = jwtTokenProvider.generateAccessToken(1L, List.of("ROLE_USER"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(verifiedTokenCache.parse(token)).get()
+                    .extracting(ParsedToken::userId)
+                    .isEqualTo(1L);
+        }
+
+        verify(jwtTokenProvider, times(1)).parse(token);
+        assertThat(meterRegistry.get("jwt.verified-cache.hit-ratio").gauge().value()).isEqualTo(0.8);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        String token = jwtTokenProvider.generateAccessToken(1L, List.of("ROLE_USER")) + "x";
+
+        assertThat(verifiedTokenCache.parse(token)).isEmpty();
+        assertThat(verifiedTokenCache.parse(token)).isEmpty();
+
+        verify(jwtTokenProvider, times(2)).parse(token);
+    }
+
+    @Test
+    void refreshTokenIsRejected() {
+        String token = jwtTokenProvider.createRefreshToken(1L, "user@test.com", "family");
+
+        assertThat(verifiedTokenCache.parse(token)).isEmpty();
+        assertThat(verifiedTokenCache.parse(token)).isEmpty();
+
+        verify(jwtTokenProvider, times(2)).parse(token);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtTokenProvider expiring = new JwtTokenProvider(SECRET, -1_000L, 604_800_000L);
+        String token = expiring.generateAccessToken(1L, List.of("ROLE_USER"));
+
+        assertThat(verifiedTokenCache.parse(token)).isEmpty();
+    }
+}
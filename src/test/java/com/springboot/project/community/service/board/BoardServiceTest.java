@@ -0,0 +1,424 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.dto.board.BoardListRes;
+import com.springboot.project.community.dto.board.BoardSliceRes;
+import com.springboot.project.community.dto.board.PostCreateReq;
+import com.springboot.project.community.dto.board.PostUpdateReq;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardImage;
+import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.entity.Comment;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.exception.ForbiddenException;
+import com.springboot.project.community.exception.NotFoundException;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardImageRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.CommentRepository;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.springboot.project.community.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class BoardServiceTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BoardImageRepository boardImageRepository;
+
+    @Autowired
+    private BoardListCache boardListCache;
+
+    @Autowired
+    private BoardPurger boardPurger;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private Long postId;    // 첫 번째 게시글 ("title 0")
+    private Long authorId;  // 첫 번째 게시글 작성자
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boardListCache.invalidateAll();
+
+        // 작성자가 모두 다른 게시글 50건 (작성자 N+1 이 있으면 쿼리 수가 늘어남)
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User author = userRepository.save(createUser());
+            Board board = boardRepository.save(Board.builder()
+                    .author(author)
+                    .title("title " + i)
+                    .contents("contents " + i)
+                    .build());
+            if (i == 0) {
+                postId = board.getPostId();
+                authorId = author.getUserId();
+            }
+            boardStatsRepository.save(BoardStats.builder()
+                    .postId(board.getPostId())
+                    .board(board)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void boardListPageRunsConstantStatements() {
+        Page<BoardListRes> page = boardService.getBoardList(0, PAGE_SIZE, null);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        // 목록 1 + COUNT 1 (작성자, 통계 추가 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void firstPageIsServedFromCache() {
+        boardService.getBoardList(0, PAGE_SIZE, null);
+        statistics.clear();
+
+        Page<BoardListRes> page = boardService.getBoardList(0, PAGE_SIZE, null);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    /**
+     * 로그인 사용자의 목록 렌더링: 좋아요 여부 조회는 처음 1회, 이후 0회
+     */
+    @Test
+    void likedFlagsAddAtMostOneStatement() {
+        Long readerId = userRepository.save(createUser()).getUserId();
+        List<Long> likedIds = boardService.getBoardList(0, PAGE_SIZE, null).getContent().stream()
+                .limit(3)
+                .map(BoardListRes::getId)
+                .toList();
+        for (Long postId : likedIds) {
+            em.createNativeQuery("INSERT INTO BOARD_LIKE (user_id, post_id, is_deleted) VALUES (:userId, :postId, 0)")
+                    .setParameter("userId", readerId)
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+        }
+        statistics.clear();
+
+        Page<BoardListRes> page = boardService.getBoardList(0, PAGE_SIZE, readerId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page.getContent())
+                .filteredOn(board -> Boolean.TRUE.equals(board.getIsLiked()))
+                .extracting(BoardListRes::getId)
+                .containsExactlyInAnyOrderElementsOf(likedIds);
+
+        statistics.clear();
+        boardService.getBoardList(0, PAGE_SIZE, readerId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void boardSliceRunsSingleStatement() {
+        BoardSliceRes slice = boardService.getBoardSlice(null, PAGE_SIZE, null);
+
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * size 가 0 이하이면 1건으로 보정 (빈 페이지에서 다음 커서를 만들다 실패하지 않음)
+     */
+    @Test
+    void nonPositiveSliceSizeIsClamped() {
+        BoardSliceRes first = boardService.getBoardSlice(null, 0, null);
+
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+
+        BoardSliceRes second = boardService.getBoardSlice(first.getNextCursor(), -1, null);
+
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getSize()).isEqualTo(1);
+    }
+
+    /**
+     * 댓글이 많은 게시글 삭제: 요청에서는 삭제 표시만 (댓글 수와 무관하게 UPDATE 1문장)
+     */
+    @Test
+    void deleteOnlyMarksTombstone() {
+        Long postId = createThread(500);
+        Long authorId = boardRepository.findById(postId).orElseThrow().getAuthor().getUserId();
+        em.clear();
+        statistics.clear();
+
+        boardService.delete(authorId, postId);
+        em.flush();
+
+        // 게시글 조회 1 + BOARD UPDATE 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        em.clear();
+        assertThat(boardRepository.findById(postId)).isEmpty();
+        assertThat(countRows("COMMENT", postId)).isEqualTo(500);
+    }
+
+    /**
+     * 삭제 표시된 게시글은 정리기가 자식 테이블부터 chunk 단위로 모두 지운다
+     */
+    @Test
+    void purgerRemovesDeletedThread() {
+        Long postId = createThread(1200);
+        Long authorId = boardRepository.findById(postId).orElseThrow().getAuthor().getUserId();
+        boardService.delete(authorId, postId);
+        em.flush();
+        em.clear();
+
+        boardPurger.purge();
+
+        for (String table : List.of("COMMENT", "BOARD_IMAGE", "BOARD_LIKE", "BOARD_STATS", "BOARD")) {
+            assertThat(countRows(table, postId)).as(table).isZero();
+        }
+    }
+
+    /**
+     * 게시글 작성 시 이미지는 요청 순서대로 sort_order 가 매겨져 모두 저장된다
+     * - 이미지 수별 작성 지연 시간은 src/jmh 의 BoardCreateBenchmark 에서 측정
+     */
+    @Test
+    void createStoresImagesInOrder() {
+        Long authorId = userRepository.save(createUser()).getUserId();
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            imageUrls.add("https://cdn.example.com/" + UUID.randomUUID() + ".png");
+        }
+
+        Long postId = boardService.create(authorId, PostCreateReq.builder()
+                .title("images")
+                .contents("contents")
+                .imageUrls(imageUrls)
+                .build()).getPostId();
+        em.flush();
+        em.clear();
+
+        List<BoardImage> images = boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId);
+        assertThat(images).extracting(BoardImage::getImageUrl).containsExactlyElementsOf(imageUrls);
+        for (int i = 0; i < images.size(); i++) {
+            assertThat(images.get(i).getSortOrder()).isEqualTo(i);
+        }
+    }
+
+    /**
+     * 이미지 순서 변경/일부 교체: 남은 이미지는 같은 행(image_id)을 유지하고 순서만 바뀐다
+     */
+    @Test
+    void updateImagesAppliesOnlyDiff() {
+        Long authorId = userRepository.save(createUser()).getUserId();
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            urls.add("https://cdn.example.com/" + i + ".png");
+        }
+        Long postId = boardService.create(authorId, PostCreateReq.builder()
+                .title("title")
+                .contents("contents")
+                .imageUrls(urls)
+                .build()).getPostId();
+        em.flush();
+        em.clear();
+        Map<String, Long> idsBefore = imageIdsByUrl(postId);
+
+        // 역순 + 첫 이미지 제거 + 새 이미지 1개
+        List<String> target = new ArrayList<>(urls.subList(1, urls.size()));
+        Collections.reverse(target);
+        target.add("https://cdn.example.com/new.png");
+        boardService.update(authorId, postId, PostUpdateReq.builder()
+                .title("title")
+                .contents("contents")
+                .imageUrls(target)
+                .build());
+        em.flush();
+        em.clear();
+
+        assertThat(boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId))
+                .extracting(BoardImage::getImageUrl)
+                .containsExactlyElementsOf(target);
+        Map<String, Long> idsAfter = imageIdsByUrl(postId);
+        for (String url : urls.subList(1, urls.size())) {
+            assertThat(idsAfter.get(url)).as(url).isEqualTo(idsBefore.get(url));
+        }
+        assertThat(idsAfter).doesNotContainKey(urls.get(0));
+    }
+
+    /**
+     * 게시글 수정: 수정 전 상태 프로젝션 1 + 작성자 조건 UPDATE 1 (사용자/게시글 엔티티 조회, save 재조회 없음)
+     */
+    @Test
+    void updateRunsTwoStatements() {
+        PostUpdateReq res = boardService.update(authorId, postId, PostUpdateReq.builder()
+                .title("edited")
+                .contents("edited contents")
+                .build());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(res.getCreatedAt()).isNotNull();
+        assertThat(res.getUpdatedAt()).isNotNull();
+        em.clear();
+        assertThat(boardRepository.findById(postId).orElseThrow().getTitle()).isEqualTo("edited");
+    }
+
+    /**
+     * 같은 값으로 수정: UPDATE 생략, 저장된 작성/수정 시각을 그대로 응답
+     */
+    @Test
+    void updateWithoutChangesSkipsWrite() {
+        Board before = boardRepository.findById(postId).orElseThrow();
+        LocalDateTime createdAt = before.getCreatedAt();
+        LocalDateTime updatedAt = before.getUpdatedAt();
+        em.clear();
+        statistics.clear();
+
+        PostUpdateReq res = boardService.update(authorId, postId, PostUpdateReq.builder()
+                .title("title 0")
+                .contents("contents 0")
+                .build());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(res.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(res.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    /**
+     * 이미지만 보낸 수정: 제목/내용은 기존 값 유지
+     */
+    @Test
+    void imageOnlyUpdateKeepsTitleAndContents() {
+        List<String> imageUrls = List.of("https://cdn.example.com/only.png");
+
+        PostUpdateReq res = boardService.update(authorId, postId, PostUpdateReq.builder()
+                .imageUrls(imageUrls)
+                .build());
+        em.flush();
+        em.clear();
+
+        assertThat(res.getTitle()).isEqualTo("title 0");
+        assertThat(res.getContents()).isEqualTo("contents 0");
+        Board board = boardRepository.findById(postId).orElseThrow();
+        assertThat(board.getTitle()).isEqualTo("title 0");
+        assertThat(board.getContents()).isEqualTo("contents 0");
+        assertThat(boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId))
+                .extracting(BoardImage::getImageUrl)
+                .containsExactlyElementsOf(imageUrls);
+    }
+
+    /**
+     * 대소문자만 바꾼 수정도 변경으로 반영 (콜레이션 비교에 묻히지 않음)
+     */
+    @Test
+    void caseOnlyEditIsApplied() {
+        boardService.update(authorId, postId, PostUpdateReq.builder()
+                .title("TITLE 0")
+                .contents("contents 0")
+                .build());
+
+        em.clear();
+        assertThat(boardRepository.findById(postId).orElseThrow().getTitle()).isEqualTo("TITLE 0");
+    }
+
+    @Test
+    void updateByOtherUserIsForbidden() {
+        Long otherId = userRepository.save(createUser()).getUserId();
+        PostUpdateReq req = PostUpdateReq.builder()
+                .title("edited")
+                .contents("edited contents")
+                .build();
+
+        assertThatThrownBy(() -> boardService.update(otherId, postId, req))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> boardService.update(otherId, Long.MAX_VALUE, req))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private Map<String, Long> imageIdsByUrl(Long postId) {
+        return boardImageRepository.findByBoard_PostIdOrderBySortOrderAsc(postId).stream()
+                .collect(Collectors.toMap(BoardImage::getImageUrl, BoardImage::getImageId));
+    }
+
+    private Long createThread(int commentCount) {
+        User author = userRepository.save(createUser());
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title("big thread")
+                .contents("contents")
+                .build());
+        Long postId = board.getPostId();
+        boardStatsRepository.save(BoardStats.builder()
+                .postId(postId)
+                .board(board)
+                .build());
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(Comment.builder()
+                    .board(board)
+                    .author(author)
+                    .contents("comment " + i)
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+        boardImageRepository.save(BoardImage.builder()
+                .board(board)
+                .user(author)
+                .imageUrl("image.png")
+                .sortOrder(0)
+                .build());
+        em.createNativeQuery("INSERT INTO BOARD_LIKE (user_id, post_id, is_deleted) VALUES (:userId, :postId, 0)")
+                .setParameter("userId", author.getUserId())
+                .setParameter("postId", postId)
+                .executeUpdate();
+        em.flush();
+        em.clear();
+        return postId;
+    }
+
+    private long countRows(String table, Long postId) {
+        Number count = (Number) em.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .getSingleResult();
+        return count.longValue();
+    }
+}
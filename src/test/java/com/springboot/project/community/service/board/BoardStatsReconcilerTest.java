@@ -0,0 +1,84 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsRepositoryCustom.StatsDrift;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+
+import static com.springboot.project.community.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BoardStatsReconcilerTest {
+
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    /**
+     * 어긋난 통계 → 실제 개수 - 합산 대기 샤드 로 보정
+     */
+    @Test
+    void reconcileRangeFixesDriftedCounters() {
+        User author = userRepository.save(createUser());
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title("title")
+                .contents("contents")
+                .build());
+        Long postId = board.getPostId();
+        boardStatsRepository.save(BoardStats.builder()
+                .postId(postId)
+                .board(board)
+                .likeCount(7L)
+                .commentCount(3L)
+                .viewCount(0L)
+                .build());
+
+        // 실제 좋아요 2개 (그 중 1개는 아직 샤드에만 반영), 댓글 0개
+        for (int i = 0; i < 2; i++) {
+            User liker = userRepository.save(createUser());
+            em.flush();
+            em.createNativeQuery("INSERT INTO BOARD_LIKE (user_id, post_id, is_deleted) VALUES (:userId, :postId, 0)")
+                    .setParameter("userId", liker.getUserId())
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+        }
+        em.createNativeQuery("INSERT INTO BOARD_STATS_SHARD (post_id, shard_no, like_delta, view_delta, comment_delta) " +
+                        "VALUES (:postId, 0, 1, 0, 0)")
+                .setParameter("postId", postId)
+                .executeUpdate();
+        em.flush();
+
+        StatsDrift drift = boardStatsRepository.reconcileRange(postId, postId);
+        em.clear();
+
+        assertThat(drift.likeRows()).isEqualTo(1);
+        assertThat(drift.likeDiff()).isEqualTo(6);
+        assertThat(drift.commentRows()).isEqualTo(1);
+        assertThat(drift.commentDiff()).isEqualTo(3);
+        BoardStats stats = boardStatsRepository.findById(postId).orElseThrow();
+        assertThat(stats.getLikeCount()).isEqualTo(1L);
+        assertThat(stats.getCommentCount()).isZero();
+        // 샤드까지 더하면 실제 좋아요 수
+        assertThat(boardStatsRepository.findCounts(postId).orElseThrow().getLikeCount()).isEqualTo(2L);
+    }
+}
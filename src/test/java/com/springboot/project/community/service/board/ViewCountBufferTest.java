@@ -0,0 +1,89 @@
+package com.springboot.project.community.service.board;
+
+import com.springboot.project.community.repository.BoardStatsRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ViewCountBufferTest {
+
+    private static final long POST_ID = 1L;
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 100_000;
+
+    /**
+     * 조회 도중 flush 가 반복되어도 (유휴 항목 제거 포함) 합계가 정확히 맞는다
+     */
+    @Test
+    void concurrentFlushLosesNoViews() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        BoardStatsRepository repository = mock(BoardStatsRepository.class);
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            flushed.addAndGet(deltas.getOrDefault(POST_ID, 0L));
+            return deltas.size();
+        }).when(repository).addViewCounts(any());
+        ViewCountBuffer buffer = new ViewCountBuffer(repository);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            Thread flusher = new Thread(() -> {
+                while (running.get()) {
+                    buffer.flush();
+                }
+            });
+            flusher.start();
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        buffer.increment(POST_ID);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            running.set(false);
+            flusher.join();
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        assertThat(buffer.pendingCount(POST_ID)).isZero();
+    }
+
+    /**
+     * 반영에 실패한 조회수는 버퍼에 남아 다음 주기에 반영된다
+     */
+    @Test
+    void failedFlushKeepsViews() {
+        BoardStatsRepository repository = mock(BoardStatsRepository.class);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("db down");
+        }).when(repository).addViewCounts(any());
+        ViewCountBuffer buffer = new ViewCountBuffer(repository);
+
+        buffer.increment(POST_ID);
+        buffer.increment(POST_ID);
+        buffer.flush();
+
+        assertThat(buffer.pendingCount(POST_ID)).isEqualTo(2);
+    }
+}
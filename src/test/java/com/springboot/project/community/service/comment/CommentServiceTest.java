@@ -0,0 +1,219 @@
+package com.springboot.project.community.service.comment;
+
+import com.springboot.project.community.dto.comment.CommentCreateReq;
+import com.springboot.project.community.dto.comment.CommentRes;
+import com.springboot.project.community.dto.comment.CommentSliceRes;
+import com.springboot.project.community.dto.comment.CommentUpdateReq;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.Comment;
+import com.springboot.project.community.exception.ForbiddenException;
+import com.springboot.project.community.exception.NotFoundException;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.CommentRepository;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.springboot.project.community.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentServiceTest {
+
+    private static final int COMMENT_COUNT = 30;
+    private static final int LEGACY_IMAGE_SIZE = 200 * 1024;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private Long postId;
+    private Long commentId;        // 첫 번째 댓글 ("comment 0")
+    private Long commentAuthorId;  // 첫 번째 댓글 작성자
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Board board = boardRepository.save(Board.builder()
+                .author(userRepository.save(createUser()))
+                .title("title")
+                .contents("contents")
+                .build());
+        postId = board.getPostId();
+
+        // 댓글마다 작성자가 다름 (작성자 N+1 이 있으면 쿼리 수가 늘어남)
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment comment = commentRepository.save(Comment.builder()
+                    .board(board)
+                    .author(userRepository.save(createUser()))
+                    .contents("comment " + i)
+                    .build());
+            if (i == 0) {
+                commentId = comment.getCommentId();
+                commentAuthorId = comment.getAuthor().getUserId();
+            }
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void commentPageRunsSingleStatement() {
+        CommentSliceRes page = commentService.findByPost(postId, null, 20);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent()).allSatisfy(comment -> assertThat(comment.getAuthor()).isNotNull());
+        assertThat(page.isHasNext()).isTrue();
+        // 댓글 + 작성자 조인 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nextPageContinuesAfterCursor() {
+        CommentSliceRes first = commentService.findByPost(postId, null, 20);
+        CommentSliceRes second = commentService.findByPost(postId, first.getNextCursor(), 20);
+
+        assertThat(second.getContent()).hasSize(COMMENT_COUNT - 20);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getContent())
+                .extracting(CommentRes::getCommentId)
+                .doesNotContainAnyElementsOf(first.getContent().stream().map(CommentRes::getCommentId).toList());
+    }
+
+    /**
+     * 커서 댓글이 스크롤 도중 삭제되어도 다음 페이지가 이어진다 (커서에 위치 값을 담음)
+     */
+    @Test
+    void nextPageSurvivesDeletedCursorComment() {
+        CommentSliceRes first = commentService.findByPost(postId, null, 20);
+        Long cursorCommentId = first.getContent().get(first.getContent().size() - 1).getCommentId();
+        em.createNativeQuery("DELETE FROM COMMENT WHERE comment_id = :commentId")
+                .setParameter("commentId", cursorCommentId)
+                .executeUpdate();
+
+        CommentSliceRes second = commentService.findByPost(postId, first.getNextCursor(), 20);
+
+        assertThat(second.getContent()).hasSize(COMMENT_COUNT - 20);
+    }
+
+    /**
+     * 삭제 표시된 게시글의 댓글은 정리 전이라도 조회되지 않는다
+     */
+    @Test
+    void commentsOfDeletedPostAreHidden() {
+        em.createNativeQuery("UPDATE BOARD SET deleted_at = NOW() WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+
+        CommentSliceRes page = commentService.findByPost(postId, null, 20);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> commentService.findByPost(postId, "123", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 댓글 작성 1회에 DB에서 읽어오는 바이트 수
+     * - 작성자를 엔티티로 읽어도 200KB 레거시 Base64 이미지(USERS.image LONGTEXT)는 읽지 않아야 함
+     */
+    @Test
+    void addDoesNotReadLegacyProfileImage() {
+        em.createNativeQuery("UPDATE USERS SET image = :image WHERE user_id = :userId")
+                .setParameter("image", "A".repeat(LEGACY_IMAGE_SIZE))
+                .setParameter("userId", commentAuthorId)
+                .executeUpdate();
+        em.clear();
+
+        long before = bytesSent();
+        commentService.add(commentAuthorId, postId, new CommentCreateReq("new comment"));
+        long bytesPerAdd = bytesSent() - before;
+
+        assertThat(bytesPerAdd).as("bytes read per comment add").isLessThan(LEGACY_IMAGE_SIZE / 10);
+    }
+
+    /**
+     * 댓글 수정: 응답 프로젝션 1 + 작성자 조건 UPDATE 1 (사용자/게시글/댓글 엔티티 조회 없음)
+     */
+    @Test
+    void updateRunsTwoStatements() {
+        CommentRes res = commentService.update(commentAuthorId, postId, commentId, new CommentUpdateReq("edited"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(res.getContent()).isEqualTo("edited");
+        assertThat(res.getAuthor()).isNotNull();
+        assertThat(res.getCreatedAt()).isNotNull();
+    }
+
+    /**
+     * 같은 내용으로 수정: UPDATE 생략 (프로젝션 1회)
+     */
+    @Test
+    void updateWithoutChangesSkipsWrite() {
+        CommentRes res = commentService.update(commentAuthorId, postId, commentId, new CommentUpdateReq("comment 0"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(res.getContent()).isEqualTo("comment 0");
+    }
+
+    @Test
+    void updateByOtherUserIsForbidden() {
+        Long otherId = userRepository.save(createUser()).getUserId();
+
+        assertThatThrownBy(() -> commentService.update(otherId, postId, commentId, new CommentUpdateReq("edited")))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> commentService.update(otherId, postId, Long.MAX_VALUE, new CommentUpdateReq("edited")))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    /**
+     * 삭제 표시된 게시글의 댓글은 수정할 수 없음 (404)
+     */
+    @Test
+    void updateOnDeletedPostIsNotFound() {
+        em.createNativeQuery("UPDATE BOARD SET deleted_at = NOW() WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+
+        assertThatThrownBy(() -> commentService.update(commentAuthorId, postId, commentId, new CommentUpdateReq("edited")))
+                .isInstanceOf(NotFoundException.class);
+        em.clear();
+        Object contents = em.createNativeQuery("SELECT contents FROM COMMENT WHERE comment_id = :commentId")
+                .setParameter("commentId", commentId)
+                .getSingleResult();
+        assertThat(contents).isEqualTo("comment 0");
+    }
+
+    // 현재 세션에서 서버가 클라이언트로 보낸 바이트 수
+    private long bytesSent() {
+        Object[] row = (Object[]) em.createNativeQuery("SHOW SESSION STATUS LIKE 'Bytes_sent'")
+                .getSingleResult();
+        return Long.parseLong(row[1].toString());
+    }
+}
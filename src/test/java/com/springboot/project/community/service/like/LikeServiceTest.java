@@ -0,0 +1,301 @@
+package com.springboot.project.community.service.like;
+
+import com.springboot.project.community.dto.like.LikeToggleRes;
+import com.springboot.project.community.entity.Board;
+import com.springboot.project.community.entity.BoardStats;
+import com.springboot.project.community.entity.User;
+import com.springboot.project.community.repository.BoardLikeRepository;
+import com.springboot.project.community.repository.BoardRepository;
+import com.springboot.project.community.repository.BoardStatsRepository;
+import com.springboot.project.community.repository.BoardStatsShardRepository;
+import com.springboot.project.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.springboot.project.community.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LikeServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeServiceTest.class);
+    private static final int CONCURRENT_USERS = 200;
+    private static final int LOAD_THREADS = 64;
+    private static final int TOGGLES_PER_THREAD = 50;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardStatsRepository boardStatsRepository;
+
+    @Autowired
+    private BoardLikeRepository boardLikeRepository;
+
+    @Autowired
+    private BoardStatsShardRepository boardStatsShardRepository;
+
+    @Autowired
+    private LikeRequestCoalescer likeRequestCoalescer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @Transactional
+    void toggleTwiceRestoresCount() {
+        User user = userRepository.save(createUser());
+        Board board = createBoard(user);
+
+        LikeToggleRes liked = likeService.toggle(user.getUserId(), board.getPostId());
+        LikeToggleRes unliked = likeService.toggle(user.getUserId(), board.getPostId());
+
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(liked.getLikeCount()).isEqualTo(1L);
+        assertThat(unliked.isLiked()).isFalse();
+        assertThat(unliked.getLikeCount()).isZero();
+    }
+
+    @Test
+    @Transactional
+    void setLikedIsIdempotent() {
+        User user = userRepository.save(createUser());
+        Board board = createBoard(user);
+
+        likeService.setLiked(user.getUserId(), board.getPostId(), true);
+        LikeToggleRes again = likeService.setLiked(user.getUserId(), board.getPostId(), true);
+        assertThat(again.isLiked()).isTrue();
+        assertThat(again.getLikeCount()).isEqualTo(1L);
+
+        likeService.setLiked(user.getUserId(), board.getPostId(), false);
+        LikeToggleRes unlikedAgain = likeService.setLiked(user.getUserId(), board.getPostId(), false);
+        assertThat(unlikedAgain.isLiked()).isFalse();
+        assertThat(unlikedAgain.getLikeCount()).isZero();
+    }
+
+    /**
+     * 삭제 표시된 게시글의 좋아요 설정/취소/조회는 거부되고 통계 샤드에 쓰지 않는다
+     */
+    @Test
+    @Transactional
+    void likesOnDeletedPostAreRejected() {
+        User user = userRepository.save(createUser());
+        Long postId = createBoard(user).getPostId();
+        likeService.setLiked(user.getUserId(), postId, true);
+        em.flush();
+        em.createNativeQuery("UPDATE BOARD SET deleted_at = NOW() WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+        em.createNativeQuery("DELETE FROM BOARD_STATS_SHARD WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .executeUpdate();
+
+        assertThatThrownBy(() -> likeService.setLiked(user.getUserId(), postId, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> likeService.setLiked(user.getUserId(), postId, true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> likeService.getLike(user.getUserId(), postId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Number shardRows = (Number) em.createNativeQuery("SELECT COUNT(*) FROM BOARD_STATS_SHARD WHERE post_id = :postId")
+                .setParameter("postId", postId)
+                .getSingleResult();
+        assertThat(shardRows.intValue()).isZero();
+    }
+
+    /**
+     * 같은 사용자의 연속 토글 5번 → 첫 요청만 바로 반영, 뒤따른 4번(짝수)은 쓰기 없이 모두 최종 상태(좋아요)를 받음
+     */
+    @Test
+    void burstOfTogglesIsCoalesced() throws Exception {
+        User user = transactionTemplate.execute(status -> userRepository.save(createUser()));
+        Board board = transactionTemplate.execute(status -> createBoard(user));
+        Long postId = board.getPostId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<LikeToggleRes>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return likeRequestCoalescer.submit(user.getUserId(), postId, LikeRequestCoalescer.Op.TOGGLE);
+                }));
+            }
+            start.countDown();
+            for (Future<LikeToggleRes> result : results) {
+                assertThat(result.get().isLiked()).isTrue();
+                assertThat(result.get().getLikeCount()).isEqualTo(1L);
+            }
+            // 통계 샤드에는 +1 한 번만 기록
+            Number shardRows = (Number) em.createNativeQuery(
+                            "SELECT COUNT(*) FROM BOARD_STATS_SHARD WHERE post_id = :postId AND like_delta <> 0")
+                    .setParameter("postId", postId)
+                    .getSingleResult();
+            assertThat(shardRows.intValue()).isLessThanOrEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+            cleanUp(postId, List.of(user));
+        }
+    }
+
+    /**
+     * 200명이 같은 게시글에 동시에 좋아요 → 통계와 실제 좋아요 행 수가 일치해야 함
+     */
+    @Test
+    void concurrentTogglesKeepCountAccurate() throws Exception {
+        List<User> users = new ArrayList<>();
+        Board board = transactionTemplate.execute(status -> {
+            for (int i = 0; i < CONCURRENT_USERS; i++) {
+                users.add(userRepository.save(createUser()));
+            }
+            return createBoard(users.get(0));
+        });
+        Long postId = board.getPostId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<LikeToggleRes>> results = new ArrayList<>();
+            for (User user : users) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return likeService.toggle(user.getUserId(), postId);
+                }));
+            }
+            start.countDown();
+            for (Future<LikeToggleRes> result : results) {
+                assertThat(result.get().isLiked()).isTrue();
+            }
+
+            // 통계 + 샤드 합계, 샤드 합산 후 통계 모두 실제 좋아요 행 수와 일치
+            long activeLikes = boardLikeRepository.countByBoard_PostIdAndDeletedFalse(postId);
+            assertThat(activeLikes).isEqualTo(CONCURRENT_USERS);
+            assertThat(boardStatsRepository.findCounts(postId).orElseThrow().getLikeCount()).isEqualTo(activeLikes);
+            boardStatsShardRepository.compact(Integer.MAX_VALUE);
+            assertThat(boardStatsRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(activeLikes);
+        } finally {
+            executor.shutdownNow();
+            cleanUp(postId, users);
+        }
+    }
+
+    /**
+     * 좋아요 직후 취소 → 취소가 좋아요보다 먼저 커밋되는 일 없이 최종 상태는 취소
+     */
+    @Test
+    void likeThenUnlikeEndsUnliked() {
+        User user = transactionTemplate.execute(status -> userRepository.save(createUser()));
+        Board board = transactionTemplate.execute(status -> createBoard(user));
+        Long postId = board.getPostId();
+        try {
+            LikeToggleRes liked = likeRequestCoalescer.submit(user.getUserId(), postId, LikeRequestCoalescer.Op.LIKE);
+            LikeToggleRes unliked = likeRequestCoalescer.submit(user.getUserId(), postId, LikeRequestCoalescer.Op.UNLIKE);
+
+            assertThat(liked.isLiked()).isTrue();
+            assertThat(unliked.isLiked()).isFalse();
+            assertThat(likeService.getLike(user.getUserId(), postId).isLiked()).isFalse();
+        } finally {
+            cleanUp(postId, List.of(user));
+        }
+    }
+
+    /**
+     * 인기 게시글 하나에 64개 스레드가 계속 좋아요/취소 → 처리량 측정
+     * - 통계 샤드 덕분에 BOARD_STATS 한 행 잠금에서 직렬화되지 않아야 함
+     */
+    @Test
+    void likeThroughputOnSinglePost() throws Exception {
+        List<User> users = new ArrayList<>();
+        Board board = transactionTemplate.execute(status -> {
+            for (int i = 0; i < LOAD_THREADS; i++) {
+                users.add(userRepository.save(createUser()));
+            }
+            return createBoard(users.get(0));
+        });
+        Long postId = board.getPostId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(LOAD_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (User user : users) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                        likeService.toggle(user.getUserId(), postId);
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            int toggles = LOAD_THREADS * TOGGLES_PER_THREAD;
+            log.info("{} toggles by {} threads on one post: {} toggles/s",
+                    toggles, LOAD_THREADS, String.format("%.1f", toggles / seconds));
+
+            // 스레드마다 짝수 번 토글했으므로 최종 좋아요 수는 0
+            assertThat(boardStatsRepository.findCounts(postId).orElseThrow().getLikeCount())
+                    .isEqualTo(boardLikeRepository.countByBoard_PostIdAndDeletedFalse(postId))
+                    .isZero();
+        } finally {
+            executor.shutdownNow();
+            cleanUp(postId, users);
+        }
+    }
+
+    private void cleanUp(Long postId, List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createNativeQuery("DELETE FROM BOARD_LIKE WHERE post_id = :postId")
+                    .setParameter("postId", postId).executeUpdate();
+            em.createNativeQuery("DELETE FROM BOARD_STATS_SHARD WHERE post_id = :postId")
+                    .setParameter("postId", postId).executeUpdate();
+            em.createNativeQuery("DELETE FROM BOARD_STATS WHERE post_id = :postId")
+                    .setParameter("postId", postId).executeUpdate();
+            em.createNativeQuery("DELETE FROM BOARD WHERE post_id = :postId")
+                    .setParameter("postId", postId).executeUpdate();
+            userRepository.deleteAllByIdInBatch(users.stream().map(User::getUserId).toList());
+        });
+    }
+
+    private Board createBoard(User author) {
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title("title")
+                .contents("contents")
+                .build());
+        boardStatsRepository.save(BoardStats.builder()
+                .postId(board.getPostId())
+                .board(board)
+                .build());
+        return board;
+    }
+}